@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.9"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.eum"
@@ -24,6 +25,21 @@ repositories {
     mavenCentral()
 }
 
+// 부하 테스트 (src/loadTest) - 일반 test/check에는 포함되지 않음
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadTestImplementation by configurations.getting {
+    extendsFrom(configurations.testImplementation.get())
+}
+val loadTestRuntimeOnly by configurations.getting {
+    extendsFrom(configurations.testRuntimeOnly.get())
+}
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -31,11 +47,19 @@ dependencies {
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
 
+    //metrics (/actuator/prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
     //redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    //local cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     //websocket
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    runtimeOnly("io.projectreactor.netty:reactor-netty") // STOMP broker relay (websocket.broker.mode=relay)
     // JWT
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
@@ -52,8 +76,36 @@ dependencies {
     testImplementation("org.springframework.security:spring-security-test")
     testImplementation("org.awaitility:awaitility:4.2.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    loadTestImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+
+// 마이크로 벤치마크 (src/jmh) - ./gradlew jmh [-PjmhIncludes=LocationPayload]
+// 성능 변경 전/후 build/results/jmh/results.json 을 비교
+jmh {
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
 }
 
+// STOMP 위치 공유 부하 테스트 - 로컬 Redis(localhost:6379) 필요
+// ./gradlew loadTest -Dloadtest.users=2000 -Dloadtest.duration-seconds=120
+tasks.register<Test>("loadTest") {
+    description = "STOMP 위치 공유 부하 테스트 (동시 세션 수, 지연 시간 백분위, 처리량, 오류율)"
+    group = "verification"
+    testClassesDirs = sourceSets["loadTest"].output.classesDirs
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    shouldRunAfter(tasks.test)
+    maxHeapSize = "2g"
+
+    System.getProperties()
+        .filter { (key, _) -> key.toString().startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
+}
 
 // plain jar 생성 비활성화
 tasks.jar {
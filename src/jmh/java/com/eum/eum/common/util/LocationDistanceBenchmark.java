@@ -0,0 +1,97 @@
+package com.eum.eum.common.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 거리 계산 비교 (하버사인 vs 평면 근사)
+ * - boxedHaversine : 기존 calculateDistance (Double 인자)
+ * - haversine      : primitive 하버사인
+ * - equirectangular: 평면 근사 (삼각함수 1회)
+ * - withinDistance : 도착/이동 판정 경로 (평면 근사 + 제곱 비교)
+ * - batch          : 기준점 -> N개 지점 배열 계산 (배치용)
+ * 정확도는 LocationUtilTest 참고 (10km 이내 상대 오차 1e-6 미만)
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocationDistanceBenchmark {
+
+	private static final double BASE_LAT = 37.4979;
+	private static final double BASE_LNG = 127.0276;
+
+	@Param({"1024"})
+	private int size;
+
+	private double[] lats;
+	private double[] lngs;
+	private Double[] boxedLats;
+	private Double[] boxedLngs;
+	private double[] out;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		lats = new double[size];
+		lngs = new double[size];
+		boxedLats = new Double[size];
+		boxedLngs = new Double[size];
+		out = new double[size];
+
+		// 목적지 주변 약 1km 이내
+		for (int i = 0; i < size; i++) {
+			lats[i] = BASE_LAT + (random.nextDouble() - 0.5) * 0.02;
+			lngs[i] = BASE_LNG + (random.nextDouble() - 0.5) * 0.02;
+			boxedLats[i] = lats[i];
+			boxedLngs[i] = lngs[i];
+		}
+	}
+
+	@Benchmark
+	public void boxedHaversine(Blackhole blackhole) {
+		Double baseLat = BASE_LAT;
+		Double baseLng = BASE_LNG;
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(LocationUtil.calculateDistance(baseLat, baseLng, boxedLats[i], boxedLngs[i]));
+		}
+	}
+
+	@Benchmark
+	public void haversine(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(LocationUtil.haversine(BASE_LAT, BASE_LNG, lats[i], lngs[i]));
+		}
+	}
+
+	@Benchmark
+	public void equirectangular(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(LocationUtil.equirectangular(BASE_LAT, BASE_LNG, lats[i], lngs[i]));
+		}
+	}
+
+	@Benchmark
+	public void withinDistance(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(LocationUtil.isWithinDistance(BASE_LAT, BASE_LNG, lats[i], lngs[i], 60));
+		}
+	}
+
+	@Benchmark
+	public double[] batch() {
+		LocationUtil.equirectangular(BASE_LAT, BASE_LNG, lats, lngs, out);
+		return out;
+	}
+}
@@ -0,0 +1,79 @@
+package com.eum.eum.location;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.eum.eum.common.config.RedisConfig;
+import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
+import com.eum.eum.location.dto.LocationResponseDto;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+import com.eum.eum.websocket.converter.LocationCompactMessageConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 위치 전송 경로의 직렬화 비용
+ * - redis*    : RedisConfig와 같은 직렬화기로 LocationRedisEntity 저장/조회 (HSET/HGET 값)
+ * - response* : 브로드캐스트 LocationResponseDto (기본 JSON vs 압축 포맷)
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocationPayloadBenchmark {
+
+	private GenericJackson2JsonRedisSerializer redisSerializer;
+	private ObjectMapper objectMapper;
+
+	private LocationRedisEntity entity;
+	private byte[] serializedEntity;
+	private LocationResponseDto response;
+
+	@Setup
+	public void setUp() {
+		redisSerializer = RedisConfig.jsonRedisSerializer();
+		// 스프링 부트 기본 ObjectMapper와 같은 설정 (STOMP JSON 변환)
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		LocalDateTime movedAt = LocalDateTime.of(2026, 1, 15, 10, 0, 5);
+		entity = LocationRedisEntity.create(12L, 37.497942, 127.027621, movedAt, movedAt.minusSeconds(30));
+		serializedEntity = redisSerializer.serialize(entity);
+		response = LocationResponseDto.from(entity, false, null, MovementStatus.MOVING);
+	}
+
+	@Benchmark
+	public byte[] redisSerialize() {
+		return redisSerializer.serialize(entity);
+	}
+
+	@Benchmark
+	public Object redisDeserialize() {
+		return redisSerializer.deserialize(serializedEntity);
+	}
+
+	@Benchmark
+	public Object redisRoundTrip() {
+		return redisSerializer.deserialize(redisSerializer.serialize(entity));
+	}
+
+	@Benchmark
+	public byte[] responseJson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public String responseCompact() {
+		return LocationCompactMessageConverter.encode(response);
+	}
+}
@@ -0,0 +1,60 @@
+package com.eum.eum.meeting.domain.entity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.eum.eum.location.domain.entity.Location;
+import com.eum.eum.user.domain.entity.User;
+
+/**
+ * 배치의 사용자별 이동 판정 (MeetingUser.updateLocationIfMoved)
+ * - stationary: 기준 거리(20m) 미만 흔들림 → 위치 갱신 없음 (대부분의 호출)
+ * - moving    : 매 호출 약 30m씩 이동 → 위치/시간 갱신
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeetingUserBenchmark {
+
+	private static final double BASE_LAT = 37.4979;
+	private static final double BASE_LNG = 127.0276;
+	// 위도 약 1m / 30m
+	private static final double JITTER = 0.00001;
+	private static final double STEP = 0.00027;
+
+	private MeetingUser meetingUser;
+	private int tick;
+
+	@Setup
+	public void setUp() {
+		Meeting meeting = new Meeting();
+		meeting.setId(1L);
+		meeting.setLocation(new Location(BASE_LAT + 0.01, BASE_LNG));
+
+		meetingUser = MeetingUser.createAsParticipant(User.builder().id(1L).nickName("벤치").build());
+		meetingUser.setMeeting(meeting);
+		meetingUser.depart(BASE_LAT, BASE_LNG);
+		meetingUser.updateLocationIfMoved(BASE_LAT, BASE_LNG);
+	}
+
+	@Benchmark
+	public boolean stationary() {
+		tick++;
+		return meetingUser.updateLocationIfMoved(BASE_LAT + (tick & 1) * JITTER, BASE_LNG);
+	}
+
+	@Benchmark
+	public boolean moving() {
+		tick++;
+		return meetingUser.updateLocationIfMoved(BASE_LAT + (tick & 1) * STEP, BASE_LNG);
+	}
+}
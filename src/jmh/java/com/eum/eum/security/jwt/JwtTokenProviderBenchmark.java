@@ -0,0 +1,60 @@
+package com.eum.eum.security.jwt;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * STOMP CONNECT / HTTP 필터마다 실행되는 토큰 검증 비용
+ * 현재 흐름(validateToken + getUsername)은 같은 토큰을 두 번 파싱한다
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		jwtTokenProvider = new JwtTokenProvider();
+		setField("secretKey", "benchmark-secret-key-benchmark-secret-key-0123456789");
+		setField("accessExpiration", 1_800_000L);
+		setField("refreshExpiration", 1_209_600_000L);
+		jwtTokenProvider.init();
+
+		token = jwtTokenProvider.createAccessToken("bench@eum.com", List.of("ROLE_USER"));
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenProvider.validateToken(token);
+	}
+
+	@Benchmark
+	public String getUsername() {
+		return jwtTokenProvider.getUsername(token);
+	}
+
+	@Benchmark
+	public String validateThenGetUsername() {
+		return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUsername(token) : null;
+	}
+
+	private void setField(String name, Object value) throws Exception {
+		Field field = JwtTokenProvider.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(jwtTokenProvider, value);
+	}
+}
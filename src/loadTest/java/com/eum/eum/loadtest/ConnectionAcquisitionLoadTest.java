@@ -0,0 +1,175 @@
+package com.eum.eum.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eum.eum.batch.LocationBatchService;
+import com.eum.eum.location.domain.entity.Location;
+import com.eum.eum.location.dto.LocationRequestDto;
+import com.eum.eum.location.service.LocationSharingService;
+import com.eum.eum.meeting.domain.entity.Meeting;
+import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.entity.UserRole;
+import com.eum.eum.user.domain.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 위치 발행 경로의 커넥션 획득 횟수 검증 (local 프로파일: H2 + 로컬 Redis)
+ * pubLocation은 트랜잭션 없이 Redis만 쓰므로 커넥션 획득은 핑 수가 아니라 도착 수에 비례해야 함
+ * 1. 목적지에서 먼 위치 핑 → 커넥션 획득 0
+ * 2. 도착 범위 안 핑 → 사용자당 도착 처리 1회분만 획득
+ * 3. 도착 후 계속 핑 → 다시 0 (MovementStatusCache)
+ *
+ * 배치 스케줄러가 측정 중에 끼어들지 않도록 LocationBatchService는 mock으로 대체
+ * 실행: ./gradlew loadTest --tests '*ConnectionAcquisitionLoadTest' [-Dloadtest.pings=500]
+ */
+@SpringBootTest(
+	properties = {
+		"jwt.secret=loadtest-secret-key-loadtest-secret-key-0123456789",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"logging.level.com.eum.eum=WARN"
+	}
+)
+@ActiveProfiles("local")
+@DisplayName("위치 발행 커넥션 획득 테스트")
+class ConnectionAcquisitionLoadTest {
+
+	private static final int USERS = 5;
+	private static final int PINGS = Integer.getInteger("loadtest.pings", 200);
+
+	// 도착 1회 = 조회 + 상태 변경 저장 (트랜잭션 1개) - 비동기 후속 처리 여유분 포함
+	private static final long MAX_ACQUISITIONS_PER_ARRIVAL = 3;
+
+	private static final double TARGET_LAT = 37.497942;
+	private static final double TARGET_LNG = 127.027621;
+	private static final double FAR_LAT = TARGET_LAT + 0.009;
+
+	@Autowired
+	private LocationSharingService locationSharingService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@MockitoBean
+	private LocationBatchService locationBatchService;
+
+	@Test
+	@DisplayName("커넥션 획득은 핑 수가 아니라 도착 수에 비례한다")
+	void shouldAcquireConnectionsPerArrivalNotPerPing() throws Exception {
+		Meeting meeting = createMeeting();
+		List<Long> userIds = meeting.getUsers().stream()
+			.map(meetingUser -> meetingUser.getUser().getId())
+			.toList();
+
+		// 워밍업 - 목적지 캐시(MeetingLocationRedisCache) 적재 시 DB 1회 조회
+		pingAll(meeting, userIds, FAR_LAT, TARGET_LNG, 1);
+		awaitIdlePool();
+
+		// 1. 먼 위치 핑
+		long before = acquisitions();
+		pingAll(meeting, userIds, FAR_LAT, TARGET_LNG, PINGS);
+		awaitIdlePool();
+		long farDelta = acquisitions() - before;
+
+		// 2. 도착 범위 안 핑 (첫 핑에서 도착 처리)
+		before = acquisitions();
+		pingAll(meeting, userIds, TARGET_LAT, TARGET_LNG, PINGS);
+		awaitIdlePool();
+		long arrivalDelta = acquisitions() - before;
+
+		// 3. 도착 후 계속 핑
+		before = acquisitions();
+		pingAll(meeting, userIds, TARGET_LAT, TARGET_LNG, PINGS);
+		awaitIdlePool();
+		long arrivedDelta = acquisitions() - before;
+
+		System.out.printf("pings/user=%d users=%d far=%d arrival=%d arrived=%d%n",
+			PINGS, USERS, farDelta, arrivalDelta, arrivedDelta);
+
+		assertThat(farDelta).isZero();
+		assertThat(arrivalDelta).isBetween((long)USERS, USERS * MAX_ACQUISITIONS_PER_ARRIVAL);
+		assertThat(arrivedDelta).isZero();
+	}
+
+	private void pingAll(Meeting meeting, List<Long> userIds, double lat, double lng, int pings) {
+		for (int i = 0; i < pings; i++) {
+			for (int u = 0; u < userIds.size(); u++) {
+				LocationRequestDto requestDto = new LocationRequestDto();
+				requestDto.setMeetingUserId(meeting.getUsers().get(u).getId());
+				requestDto.setLat(lat);
+				requestDto.setLng(lng);
+				requestDto.setMovedAt(LocalDateTime.now());
+				locationSharingService.pubLocation(userIds.get(u), meeting.getId(), requestDto);
+			}
+		}
+	}
+
+	private long acquisitions() {
+		return meterRegistry.get("hikaricp.connections.acquire").timer().count();
+	}
+
+	// 도착 이벤트의 비동기 후속 처리(푸시 등)가 끝나 커넥션이 모두 반납될 때까지 대기
+	private void awaitIdlePool() throws InterruptedException {
+		HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		TimeUnit.MILLISECONDS.sleep(200);
+		while (hikari.getHikariPoolMXBean().getActiveConnections() > 0 && System.nanoTime() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(50);
+		}
+	}
+
+	private Meeting createMeeting() {
+		return transactionTemplate.execute(status -> {
+			List<User> members = new ArrayList<>(USERS);
+			for (int i = 0; i < USERS; i++) {
+				members.add(userRepository.save(User.builder()
+					.email("acquire" + i + "@eum.com")
+					.nickName("커넥션" + i)
+					.role(UserRole.USER)
+					.build()));
+			}
+
+			Meeting meeting = Meeting.create("커넥션 획득 테스트", null, LocalDateTime.now().plusDays(1),
+				new Location(TARGET_LAT, TARGET_LNG), "강남역", members.get(0));
+			for (int i = 1; i < USERS; i++) {
+				meeting.addMeetingUser(MeetingUser.createAsParticipant(members.get(i)));
+			}
+			meetingRepository.save(meeting);
+
+			// 트랜잭션 밖에서 지연 로딩하지 않도록 미리 초기화
+			meeting.getUsers().forEach(meetingUser -> meetingUser.getUser().getId());
+			return meeting;
+		});
+	}
+}
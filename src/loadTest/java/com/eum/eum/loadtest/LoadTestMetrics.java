@@ -0,0 +1,94 @@
+package com.eum.eum.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 부하 테스트 측정값
+ * - 지연 시간: 발행(SEND) → 같은 미팅 구독자 수신까지 (수신자마다 1건, µs)
+ *   서버가 미팅별로 묶어서 보내므로(flush-interval-ms) 그 주기만큼의 대기가 포함된다
+ * - 처리량/오류: 측정 구간 동안의 카운터
+ */
+class LoadTestMetrics {
+	private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+	private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+	final LongAdder connected = new LongAdder();
+	final LongAdder connectFailures = new LongAdder();
+	final LongAdder published = new LongAdder();
+	final LongAdder publishFailures = new LongAdder();
+	final LongAdder receivedFrames = new LongAdder();
+	final LongAdder receivedLocations = new LongAdder();
+	final LongAdder errorFrames = new LongAdder();
+	final LongAdder transportErrors = new LongAdder();
+
+	private volatile boolean recording;
+
+	void startRecording() {
+		latency.reset();
+		published.reset();
+		publishFailures.reset();
+		receivedFrames.reset();
+		receivedLocations.reset();
+		errorFrames.reset();
+		transportErrors.reset();
+		recording = true;
+	}
+
+	void stopRecording() {
+		recording = false;
+	}
+
+	boolean isRecording() {
+		return recording;
+	}
+
+	void recordLatency(long sentAtNanos) {
+		if (!recording) {
+			return;
+		}
+		long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAtNanos);
+		latency.recordValue(Math.min(Math.max(micros, 0), MAX_LATENCY_MICROS));
+	}
+
+	long errors() {
+		return publishFailures.sum() + errorFrames.sum() + transportErrors.sum();
+	}
+
+	double errorRate() {
+		long attempts = published.sum() + publishFailures.sum();
+		return attempts == 0 ? 0 : (double)errors() / attempts;
+	}
+
+	String report(int users, int meetingSize, long intervalMs, long durationSeconds) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("\n========== STOMP 위치 공유 부하 테스트 ==========\n");
+		sb.append(String.format("  사용자 %d명 (미팅당 %d명), 전송 주기 %dms, 측정 %ds%n",
+			users, meetingSize, intervalMs, durationSeconds));
+		sb.append(String.format("  연결 성공 %d / 실패 %d%n", connected.sum(), connectFailures.sum()));
+		sb.append(String.format("  발행 %d건 (%.1f/s), 실패 %d%n",
+			published.sum(), (double)published.sum() / durationSeconds, publishFailures.sum()));
+		sb.append(String.format("  수신 프레임 %d (%.1f/s), 위치 %d건 (%.1f/s)%n",
+			receivedFrames.sum(), (double)receivedFrames.sum() / durationSeconds,
+			receivedLocations.sum(), (double)receivedLocations.sum() / durationSeconds));
+		sb.append(String.format("  오류: ERROR 프레임 %d, 전송 오류 %d, 오류율 %.4f%%%n",
+			errorFrames.sum(), transportErrors.sum(), errorRate() * 100));
+		sb.append(String.format("  발행→수신 지연(ms) 샘플 %d: p50 %.1f / p90 %.1f / p99 %.1f / p99.9 %.1f / max %.1f%n",
+			latency.getTotalCount(),
+			millis(latency.getValueAtPercentile(50)),
+			millis(latency.getValueAtPercentile(90)),
+			millis(latency.getValueAtPercentile(99)),
+			millis(latency.getValueAtPercentile(99.9)),
+			millis(latency.getMaxValue())));
+		sb.append("=================================================\n");
+		return sb.toString();
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
@@ -0,0 +1,191 @@
+package com.eum.eum.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import com.eum.eum.location.domain.entity.Location;
+import com.eum.eum.meeting.domain.entity.Meeting;
+import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.eum.eum.security.jwt.JwtTokenProvider;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.entity.UserRole;
+import com.eum.eum.user.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * STOMP 위치 공유 부하 테스트 (1노드 동시 접속 한계 측정)
+ * 앱을 임의 포트로 띄우고 (local 프로파일: H2 + 로컬 Redis) 같은 JVM에서 SockJS 클라이언트 N개로 접속
+ * 1. 사용자/미팅 픽스처 생성 + JWT 발급
+ * 2. 동시 접속 (JwtStompInterceptor 인증 → /sub/meeting/{id}/location 구독)
+ * 3. 워밍업 후 측정 구간 동안 사용자마다 interval 주기로 위치 발행
+ * 4. 지연 백분위(HdrHistogram), 처리량, 오류율 출력
+ *
+ * 설정 (-Dloadtest.xxx)
+ *  users(1000) meeting-size(10) interval-ms(5000) duration-seconds(60) warmup-seconds(10)
+ *  connect-concurrency(100) max-error-rate(0.01)
+ * 실행: ./gradlew loadTest -Dloadtest.users=2000
+ */
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"jwt.secret=loadtest-secret-key-loadtest-secret-key-0123456789",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"logging.level.com.eum.eum=WARN"
+	}
+)
+@ActiveProfiles("local")
+@DisplayName("STOMP 위치 공유 부하 테스트")
+class LocationLoadTest {
+
+	private static final int USERS = Integer.getInteger("loadtest.users", 1000);
+	private static final int MEETING_SIZE = Integer.getInteger("loadtest.meeting-size", 10);
+	private static final long INTERVAL_MS = Long.getLong("loadtest.interval-ms", 5000);
+	private static final long DURATION_SECONDS = Long.getLong("loadtest.duration-seconds", 60);
+	private static final long WARMUP_SECONDS = Long.getLong("loadtest.warmup-seconds", 10);
+	private static final int CONNECT_CONCURRENCY = Integer.getInteger("loadtest.connect-concurrency", 100);
+	private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+	// 목적지(강남역)에서 약 1km 떨어진 곳에서 출발 - 도착 처리 경로는 타지 않음
+	private static final double TARGET_LAT = 37.497942;
+	private static final double TARGET_LNG = 127.027621;
+	private static final double START_LAT = TARGET_LAT + 0.009;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	@DisplayName("동시 접속 사용자의 위치 발행 → 구독자 수신 지연/처리량/오류율")
+	void locationSharingUnderLoad() throws Exception {
+		LoadTestMetrics metrics = new LoadTestMetrics();
+		Map<Long, SimulatedUser.Sent> lastSent = SimulatedUser.newSentMap();
+		List<SimulatedUser> users = createUsers(metrics, lastSent);
+
+		WebSocketStompClient stompClient = stompClient();
+		String url = "http://localhost:" + port + "/ws";
+
+		// 1. 동시 접속 (connect-concurrency 단위로 제한)
+		ExecutorService connectPool = Executors.newFixedThreadPool(CONNECT_CONCURRENCY);
+		for (SimulatedUser user : users) {
+			connectPool.submit(() -> user.connect(stompClient, url, 30));
+		}
+		connectPool.shutdown();
+		connectPool.awaitTermination(10, TimeUnit.MINUTES);
+
+		// 2. 사용자마다 interval 주기로 발행 (시작 시점은 주기 안에서 분산)
+		ScheduledExecutorService publishers = Executors.newScheduledThreadPool(
+			Math.max(4, Runtime.getRuntime().availableProcessors()));
+		for (SimulatedUser user : users) {
+			long initialDelay = ThreadLocalRandom.current().nextLong(INTERVAL_MS);
+			publishers.scheduleAtFixedRate(user::publish, initialDelay, INTERVAL_MS, TimeUnit.MILLISECONDS);
+		}
+
+		// 3. 워밍업 → 측정
+		TimeUnit.SECONDS.sleep(WARMUP_SECONDS);
+		metrics.startRecording();
+		TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+		metrics.stopRecording();
+
+		publishers.shutdownNow();
+		users.forEach(SimulatedUser::disconnect);
+		stompClient.stop();
+
+		System.out.println(metrics.report(USERS, MEETING_SIZE, INTERVAL_MS, DURATION_SECONDS));
+
+		assertThat(metrics.connected.sum()).isPositive();
+		assertThat(metrics.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+	}
+
+	/**
+	 * 미팅 USERS / MEETING_SIZE 개, 미팅마다 MEETING_SIZE명 참여
+	 */
+	private List<SimulatedUser> createUsers(LoadTestMetrics metrics, Map<Long, SimulatedUser.Sent> lastSent) {
+		return transactionTemplate.execute(status -> {
+			List<SimulatedUser> users = new ArrayList<>(USERS);
+
+			for (int offset = 0; offset < USERS; offset += MEETING_SIZE) {
+				int size = Math.min(MEETING_SIZE, USERS - offset);
+
+				List<User> members = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					members.add(userRepository.save(User.builder()
+						.email("loadtest" + (offset + i) + "@eum.com")
+						.nickName("부하" + (offset + i))
+						.role(UserRole.USER)
+						.build()));
+				}
+
+				Meeting meeting = Meeting.create("부하 테스트 " + offset, null, LocalDateTime.now().plusDays(1),
+					new Location(TARGET_LAT, TARGET_LNG), "강남역", members.get(0));
+				for (int i = 1; i < size; i++) {
+					meeting.addMeetingUser(MeetingUser.createAsParticipant(members.get(i)));
+				}
+				meetingRepository.save(meeting);
+
+				for (MeetingUser meetingUser : meeting.getUsers()) {
+					User user = meetingUser.getUser();
+					String token = jwtTokenProvider.createAccessToken(user.getEmail(), List.of("ROLE_USER"));
+					double lngOffset = (users.size() % MEETING_SIZE) * 0.0005;
+					users.add(new SimulatedUser(lastSent, metrics, meeting.getId(), meetingUser.getId(), token,
+						START_LAT, TARGET_LNG + lngOffset));
+				}
+			}
+			return users;
+		});
+	}
+
+	private WebSocketStompClient stompClient() {
+		WebSocketStompClient stompClient = new WebSocketStompClient(
+			new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+
+		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+		converter.setObjectMapper(objectMapper);
+		stompClient.setMessageConverter(converter);
+
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(2);
+		scheduler.setThreadNamePrefix("loadtest-heartbeat-");
+		scheduler.initialize();
+		stompClient.setTaskScheduler(scheduler);
+		return stompClient;
+	}
+}
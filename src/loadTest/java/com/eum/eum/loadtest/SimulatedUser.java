@@ -0,0 +1,153 @@
+package com.eum.eum.loadtest;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 가상 사용자 1명 = STOMP 세션 1개
+ * - CONNECT: Authorization(JWT) + meetingId 헤더 → JwtStompInterceptor 인증
+ * - SUBSCRIBE /sub/meeting/{id}/location
+ * - SEND /pub/meeting/{id}/meeting-user/{muId}/location (publish() 호출마다)
+ * 수신 지연은 같은 JVM의 발행 시각 맵(lastSent)으로 계산
+ */
+class SimulatedUser extends StompSessionHandlerAdapter {
+	private static final DateTimeFormatter MOVED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+	// 서버 수신 필터(최소 이동 거리)를 넘도록 두 지점(약 11m)을 번갈아 전송
+	private static final double STEP = 0.0001;
+
+	// meetingUserId -> 마지막 발행 (위도, 발행 시각)
+	private final Map<Long, Sent> lastSent;
+	private final LoadTestMetrics metrics;
+
+	private final Long meetingId;
+	private final Long meetingUserId;
+	private final String accessToken;
+	private final double baseLat;
+	private final double baseLng;
+
+	private volatile StompSession session;
+	private long tick;
+
+	SimulatedUser(Map<Long, Sent> lastSent, LoadTestMetrics metrics, Long meetingId, Long meetingUserId,
+		String accessToken, double baseLat, double baseLng) {
+		this.lastSent = lastSent;
+		this.metrics = metrics;
+		this.meetingId = meetingId;
+		this.meetingUserId = meetingUserId;
+		this.accessToken = accessToken;
+		this.baseLat = baseLat;
+		this.baseLng = baseLng;
+	}
+
+	static Map<Long, Sent> newSentMap() {
+		return new ConcurrentHashMap<>();
+	}
+
+	boolean connect(WebSocketStompClient client, String url, long timeoutSeconds) {
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization", "Bearer " + accessToken);
+		connectHeaders.add("meetingId", String.valueOf(meetingId));
+
+		try {
+			session = client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, this)
+				.get(timeoutSeconds, TimeUnit.SECONDS);
+			session.subscribe("/sub/meeting/" + meetingId + "/location", new LocationFrameHandler());
+			metrics.connected.increment();
+			return true;
+		} catch (Exception e) {
+			metrics.connectFailures.increment();
+			return false;
+		}
+	}
+
+	void publish() {
+		StompSession current = session;
+		if (current == null || !current.isConnected()) {
+			metrics.publishFailures.increment();
+			return;
+		}
+
+		double lat = baseLat + (tick++ % 2) * STEP;
+		lastSent.put(meetingUserId, new Sent(lat, System.nanoTime()));
+
+		try {
+			current.send("/pub/meeting/" + meetingId + "/meeting-user/" + meetingUserId + "/location", Map.of(
+				"meetingUserId", meetingUserId,
+				"lat", lat,
+				"lng", baseLng,
+				"movedAt", LocalDateTime.now().format(MOVED_AT_FORMAT)
+			));
+			metrics.published.increment();
+		} catch (Exception e) {
+			metrics.publishFailures.increment();
+		}
+	}
+
+	void disconnect() {
+		StompSession current = session;
+		if (current != null && current.isConnected()) {
+			current.disconnect();
+		}
+	}
+
+	@Override
+	public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload,
+		Throwable exception) {
+		metrics.errorFrames.increment();
+	}
+
+	@Override
+	public void handleFrame(StompHeaders headers, Object payload) {
+		// 세션 핸들러로 오는 프레임 = ERROR
+		metrics.errorFrames.increment();
+	}
+
+	@Override
+	public void handleTransportError(StompSession session, Throwable exception) {
+		if (metrics.isRecording()) {
+			metrics.transportErrors.increment();
+		}
+	}
+
+	private class LocationFrameHandler implements StompFrameHandler {
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return JsonNode.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			metrics.receivedFrames.increment();
+
+			// 묶음 전송(List) / 단건 모두 처리
+			JsonNode frame = (JsonNode)payload;
+			Iterable<JsonNode> locations = frame.isArray() ? frame : List.of(frame);
+			for (JsonNode location : locations) {
+				metrics.receivedLocations.increment();
+
+				Sent sent = lastSent.get(location.path("meetingUserId").asLong());
+				if (sent != null && sent.lat() == location.path("lat").asDouble()) {
+					metrics.recordLatency(sent.sentAtNanos());
+				}
+			}
+		}
+	}
+
+	record Sent(double lat, long sentAtNanos) {
+	}
+}
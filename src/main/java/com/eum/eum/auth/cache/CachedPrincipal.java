@@ -0,0 +1,47 @@
+package com.eum.eum.auth.cache;
+
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.entity.UserRole;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 저장하는 인증 주체 스냅샷
+ * 비밀번호/refresh token은 담지 않는다 (인증 후에는 쓰지 않음)
+ * Redis 직렬화 시 @class 타입 정보가 붙도록 final/record로 만들지 않는다 (RedisConfig NON_FINAL)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachedPrincipal {
+	public static final String REDIS_KEY_PREFIX = "auth:principal";
+
+	private Long id;
+	private String email;
+	private String nickName;
+	private UserRole role;
+
+	public static String redisKey(String email) {
+		return REDIS_KEY_PREFIX + ":" + email;
+	}
+
+	public static CachedPrincipal from(User user) {
+		return new CachedPrincipal(user.getId(), user.getEmail(), user.getNickName(), user.getRole());
+	}
+
+	/**
+	 * 요청마다 새 User 인스턴스로 복원 (요청 간에 같은 객체를 공유하지 않음)
+	 * 영속 상태가 아니므로 연관관계의 참조(FK)나 조회용으로만 사용하고, 변경이 필요하면 다시 조회해야 한다
+	 */
+	public User toUser() {
+		return User.builder()
+			.id(id)
+			.email(email)
+			.nickName(nickName)
+			.role(role)
+			.build();
+	}
+}
@@ -0,0 +1,148 @@
+package com.eum.eum.auth.cache;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eum.eum.auth.event.PrincipalChangedEvent;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 주체 캐시 (L1: 로컬 Caffeine → L2: Redis → DB)
+ * JWT 필터가 요청마다 findByEmail 하지 않도록 사용
+ * - L1 키는 (subject, 토큰 발급 시각): 재로그인/재발급된 토큰은 새 항목으로 시작
+ * - L2 키는 subject (auth.principal-cache.redis-enabled=false 면 L2 생략)
+ * - PrincipalChangedEvent(커밋 후) 시 L2 삭제 + Redis Pub/Sub으로 모든 노드의 L1 무효화
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+	public static final String EVICT_CHANNEL = "auth-principal:evict";
+
+	private static final int LOCAL_MAX_SIZE = 10_000;
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+	private static final Duration REDIS_TTL = Duration.ofMinutes(30);
+
+	private record Key(String subject, long issuedAt) {
+	}
+
+	private final UserRepository userRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MeterRegistry meterRegistry;
+	private final boolean redisEnabled;
+
+	private final Cache<Key, CachedPrincipal> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_MAX_SIZE)
+		.expireAfterWrite(LOCAL_TTL)
+		.recordStats()
+		.build();
+
+	public PrincipalCache(
+		UserRepository userRepository,
+		RedisTemplate<String, Object> redisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${auth.principal-cache.redis-enabled:true}") boolean redisEnabled
+	) {
+		this.userRepository = userRepository;
+		this.redisTemplate = redisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.meterRegistry = meterRegistry;
+		this.redisEnabled = redisEnabled;
+	}
+
+	@PostConstruct
+	void init() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "principal");
+	}
+
+	/**
+	 * 토큰의 subject(email)로 인증 주체 조회
+	 * @throws UsernameNotFoundException DB에도 없는 사용자
+	 */
+	public User getOrLoad(String subject, Date issuedAt) {
+		Key key = new Key(subject, issuedAt != null ? issuedAt.getTime() : 0L);
+		CachedPrincipal principal = localCache.get(key, k -> loadFromRedisOrDb(k.subject()));
+		return principal.toUser();
+	}
+
+	private CachedPrincipal loadFromRedisOrDb(String email) {
+		String redisKey = CachedPrincipal.redisKey(email);
+
+		if (redisEnabled) {
+			try {
+				if (redisTemplate.opsForValue().get(redisKey) instanceof CachedPrincipal cached) {
+					return cached;
+				}
+			} catch (Exception e) {
+				// Redis 장애 시에도 인증은 DB로 계속 진행
+				log.warn("인증 주체 Redis 조회 실패 - email: {}", email, e);
+			}
+		}
+
+		User user = userRepository.findByEmail(email)
+			.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+		CachedPrincipal principal = CachedPrincipal.from(user);
+
+		if (redisEnabled) {
+			try {
+				redisTemplate.opsForValue().set(redisKey, principal, REDIS_TTL);
+			} catch (Exception e) {
+				log.warn("인증 주체 Redis 저장 실패 - email: {}", email, e);
+			}
+		}
+		return principal;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPrincipalChanged(PrincipalChangedEvent event) {
+		evict(event.getEmail());
+	}
+
+	public void evict(String email) {
+		if (redisEnabled) {
+			redisTemplate.delete(CachedPrincipal.redisKey(email));
+		}
+		invalidateLocal(email);
+
+		// 다른 노드의 로컬 캐시도 무효화
+		redisTemplate.convertAndSend(EVICT_CHANNEL, email);
+	}
+
+	/**
+	 * 다른 노드에서 발행한 무효화 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (payload instanceof String email) {
+			invalidateLocal(email);
+			log.debug("인증 주체 로컬 캐시 무효화 - email: {}", email);
+		}
+	}
+
+	// 같은 subject의 모든 토큰(발급 시각) 항목 제거 - 프로필 수정/로그아웃 때만 호출되므로 전체 순회 허용
+	private void invalidateLocal(String email) {
+		localCache.asMap().keySet().removeIf(key -> key.subject().equals(email));
+	}
+}
@@ -1,6 +1,7 @@
 package com.eum.eum.auth.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -12,6 +13,7 @@ import com.eum.eum.auth.dto.SignupRequestDto;
 import com.eum.eum.auth.service.AuthService;
 import com.eum.eum.auth.dto.LoginRequestDto;
 import com.eum.eum.auth.dto.UserResponseDto;
+import com.eum.eum.user.domain.entity.User;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -90,4 +92,25 @@ public class AuthController {
 		return ResponseEntity.ok(authService.createNewAccessToken(authorization, refreshToken));
 	}
 
+	/**
+	 * 로그아웃
+	 * Refresh Token 폐기 및 쿠키 삭제
+	 *
+	 * @param response HTTP 응답 (Refresh Token 쿠키 삭제용)
+	 * @param user 인증된 사용자 (Access Token이 없거나 만료된 경우 null)
+	 * @return 처리 결과
+	 */
+	@PostMapping("/logout")
+	@Operation(
+		summary = "로그아웃",
+		description = "Refresh Token을 폐기하고 쿠키를 삭제합니다."
+	)
+	public ResponseEntity<Boolean> logout(
+		HttpServletResponse response,
+		@AuthenticationPrincipal User user
+	) {
+		authService.logout(response, user != null ? user.getEmail() : null);
+		return ResponseEntity.ok(true);
+	}
+
 }
@@ -0,0 +1,13 @@
+package com.eum.eum.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 주체 정보가 바뀜 (프로필 수정, 로그아웃) -> 커밋 후 PrincipalCache 무효화
+ */
+@Getter
+@AllArgsConstructor
+public class PrincipalChangedEvent {
+	private String email;
+}
@@ -3,6 +3,7 @@ package com.eum.eum.auth.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.eum.eum.auth.dto.LoginRequestDto;
 import com.eum.eum.auth.dto.SignupRequestDto;
 import com.eum.eum.auth.dto.UserResponseDto;
+import com.eum.eum.auth.event.PrincipalChangedEvent;
 import com.eum.eum.common.exception.ErrorCode;
 import com.eum.eum.common.exception.BusinessException;
 import com.eum.eum.common.util.CookieUtil;
@@ -37,6 +39,7 @@ public class AuthService {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 사용자 로그인
@@ -143,4 +146,25 @@ public class AuthService {
 		return UserResponseDto.of(newAccessToken, user);
 	}
 
+	/**
+	 * 로그아웃
+	 *
+	 * Refresh Token을 폐기하고 쿠키를 삭제, 캐시된 인증 주체도 커밋 후 무효화
+	 * (Access Token은 stateless라 만료 시까지 유효하며, 다음 요청에서 DB 기준으로 다시 적재된다)
+	 *
+	 * @param response HTTP 응답 객체 (Refresh Token 쿠키 삭제용)
+	 * @param email 로그아웃할 사용자 이메일 (인증 정보가 없으면 null)
+	 */
+	@Transactional
+	public void logout(HttpServletResponse response, String email) {
+		CookieUtil.deleteCookie(response, JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME);
+
+		if (email == null) {
+			return;
+		}
+
+		userRepository.findByEmail(email).ifPresent(User::clearRefreshToken);
+		eventPublisher.publishEvent(new PrincipalChangedEvent(email));
+	}
+
 }
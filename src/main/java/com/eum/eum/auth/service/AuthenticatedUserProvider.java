@@ -0,0 +1,38 @@
+package com.eum.eum.auth.service;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.eum.eum.common.exception.BusinessException;
+import com.eum.eum.common.exception.ErrorCode;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서비스에서 요청 사용자 조회
+ * JWT 필터가 이미 SecurityContext에 올려둔 User(요청마다 새 인스턴스)를 그대로 재사용 -> 추가 쿼리 없음
+ * 인증 컨텍스트가 없거나 다른 사용자면(STOMP, 비동기 등) DB 조회
+ *
+ * 반환값은 영속 상태가 아닐 수 있으므로 User 자체를 변경하는 경우(프로필 수정 등)에는 쓰지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserProvider {
+	private final UserRepository userRepository;
+
+	public User getUser(String email) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null
+			&& authentication.getPrincipal() instanceof User principal
+			&& principal.getId() != null
+			&& email.equals(principal.getEmail())) {
+			return principal;
+		}
+
+		return userRepository.findByEmail(email)
+			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+	}
+}
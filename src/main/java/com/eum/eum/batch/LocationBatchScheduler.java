@@ -3,66 +3,113 @@ package com.eum.eum.batch;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
+import com.eum.eum.location.cache.DirtyBatch;
 import com.eum.eum.location.cache.LocationCache;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 //todo spring batch
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LocationBatchScheduler {
 	private final LocationCache<LocationRedisEntity> locationCache;
 	private final LocationBatchService locationBatchService;
 
+	private final Timer batchTimer;
+	private final Counter syncedUsersCounter;
+	private final Counter failureCounter;
+
+	public LocationBatchScheduler(
+		LocationCache<LocationRedisEntity> locationCache,
+		LocationBatchService locationBatchService,
+		MeterRegistry meterRegistry
+	) {
+		this.locationCache = locationCache;
+		this.locationBatchService = locationBatchService;
+		this.batchTimer = Timer.builder("eum.location.batch")
+			.description("위치 배치 1회 처리 시간 (dirty 조회 ~ 워터마크 갱신)")
+			.register(meterRegistry);
+		this.syncedUsersCounter = Counter.builder("eum.location.batch.users")
+			.description("배치에서 DB 반영에 성공한 사용자 수")
+			.register(meterRegistry);
+		this.failureCounter = Counter.builder("eum.location.batch.failures")
+			.register(meterRegistry);
+	}
+
 	@Scheduled(fixedRate = 30000)
 	public void syncLocationsToDB() {
 
 		LocalDateTime batchInsertAt = LocalDateTime.now().minusSeconds(1);
+		long start = System.nanoTime();
 
-		//  1. Redis에서 모든 위치 정보 조회
-		Map<Long, List<LocationRedisEntity>> locations = locationCache.getAllLatestGroupedByMeeting();
+		//  1. 마지막 배치 이후 위치가 바뀐 사용자만 처리 중 set으로 옮겨 조회 (전체 SCAN 대신 dirty set)
+		DirtyBatch dirty = locationCache.drainDirty();
 
-		if (locations.isEmpty()) {
+		if (dirty == null) {
+			// 다른 노드가 처리 중
+			return;
+		}
+		if (dirty.isEmpty()) {
+			locationCache.completeDirty(dirty);
 			return;
 		}
 
 		try {
-			// 2. DB 저장 (트랜잭션)
-			Map<Long, List<Long>> successIds = locationBatchService.saveLocations(locations);
+			Map<Long, List<LocationRedisEntity>> locations =
+				locationCache.getLatestGroupedByMeeting(dirty.userIdsByMeeting());
+			if (!locations.isEmpty()) {
+				// 2. DB 저장 (트랜잭션)
+				Map<Long, List<Long>> successIds = locationBatchService.saveLocations(locations);
 
-			// 3. 성공한 것만 Redis lastBatchInsertAt 업데이트
-			updateLastBatchTime(successIds, batchInsertAt);
+				// 3. 성공한 것만 Redis lastBatchInsertAt 업데이트
+				updateLastBatchTime(successIds, batchInsertAt);
+				syncedUsersCounter.increment(successIds.values().stream().mapToInt(List::size).sum());
 
-			log.info("배치 처리 완료 - Meeting: {}개, 성공: {}개",
-				locations.size(), successIds.size());
+				log.info("배치 처리 완료 - Meeting: {}개, 성공: {}개",
+					locations.size(), successIds.size());
+			}
+
+			// 4. 처리 중 set 삭제
+			locationCache.completeDirty(dirty);
 
 		} catch (Exception e) {
 			log.error("배치 처리 실패", e);
-			// Redis 업데이트 안 함 (재처리 위해)
+			failureCounter.increment();
+			// 워터마크 갱신 안 함 + 처리 중 set 유지 (다음 주기에 재처리)
+			releaseDirty(dirty);
+		} finally {
+			batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void releaseDirty(DirtyBatch dirty) {
+		try {
+			locationCache.releaseDirty(dirty);
+		} catch (Exception e) {
+			// 잠금은 만료 시간이 지나면 풀리고 처리 중 set은 남아 있으므로 그때 재처리된다
+			log.error("dirty 처리 잠금 해제 실패", e);
 		}
 	}
 
-	//todo pipeline insert
 	private void updateLastBatchTime(Map<Long, List<Long>> successIds, LocalDateTime batchInsertAt) {
-		for (Map.Entry<Long, List<Long>> entry : successIds.entrySet()) {
-			Long meetingId = entry.getKey();
-			List<Long> userIds = entry.getValue();
-
-			for (Long userId : userIds) {
-				try {
-					locationCache.updateLastBatchTime(meetingId, userId, batchInsertAt);
-				} catch (Exception e) {
-					log.error("lastBatchTime 업데이트 실패 - meetingId: {}, userId: {}",
-						meetingId, userId, e);
-				}
-			}
+		if (successIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			locationCache.updateLastBatchTimes(successIds, batchInsertAt);
+		} catch (Exception e) {
+			// 워터마크는 재처리 시 중복 저장 방지용이라 갱신 실패가 위치 유실로 이어지지는 않는다
+			log.error("lastBatchTime 업데이트 실패 - meeting: {}개", successIds.size(), e);
 		}
 	}
 }
\ No newline at end of file
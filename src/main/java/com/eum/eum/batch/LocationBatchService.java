@@ -12,22 +12,38 @@ import org.springframework.transaction.annotation.Transactional;
 import com.eum.eum.location.domain.entity.Location;
 import com.eum.eum.location.domain.entity.LocationHistory;
 import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
-import com.eum.eum.location.domain.repository.LocationHistoryRepository;
+import com.eum.eum.location.domain.repository.LocationHistoryJdbcRepository;
 import com.eum.eum.meeting.domain.entity.Meeting;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
 import com.eum.eum.meeting.domain.repository.MeetingRepository;
 import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class LocationBatchService {
 	private final MeetingRepository meetingRepository;
 	private final MeetingUserRepository meetingUserRepository;
-	private final LocationHistoryRepository locationHistoryRepository;
+	private final LocationHistoryJdbcRepository locationHistoryJdbcRepository;
+
+	private final Counter historyRowsCounter;
+
+	public LocationBatchService(
+		MeetingRepository meetingRepository,
+		MeetingUserRepository meetingUserRepository,
+		LocationHistoryJdbcRepository locationHistoryJdbcRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.meetingRepository = meetingRepository;
+		this.meetingUserRepository = meetingUserRepository;
+		this.locationHistoryJdbcRepository = locationHistoryJdbcRepository;
+		this.historyRowsCounter = Counter.builder("eum.location.batch.rows")
+			.description("location_history에 저장한 행 수")
+			.register(meterRegistry);
+	}
 
 	@Transactional
 	public Map<Long, List<Long>> saveLocations(Map<Long, List<LocationRedisEntity>> locations) {
@@ -53,6 +69,9 @@ public class LocationBatchService {
 		Map<Long, MeetingUser> meetingUserMap = allMeetingUsers.stream()
 			.collect(Collectors.toMap(MeetingUser::getId, mu -> mu));
 
+		// 전체 미팅의 이력을 모아서 한 번에 batch insert
+		List<LocationHistory> locationHistories = new ArrayList<>();
+
 		// 4. 각 Meeting별로 처리
 		for (Map.Entry<Long, List<LocationRedisEntity>> entry : locations.entrySet()) {
 			Long meetingId = entry.getKey();
@@ -66,7 +85,6 @@ public class LocationBatchService {
 			}
 
 			Location meetingLocation = meeting.getLocation(); // 목적지
-			List<LocationHistory> locationHistories = new ArrayList<>();
 			List<Long> successUserIds = new ArrayList<>();  // 성공한 userId 기록
 
 			// 5. 각 사용자의 위치로 상태 업데이트
@@ -79,6 +97,12 @@ public class LocationBatchService {
 					continue;
 				}
 
+				// 좌표/이동 시각이 빠진 데이터는 batch insert 전체를 실패시키므로 건별로 제외
+				if (location.getLat() == null || location.getLng() == null || location.getMovedAt() == null) {
+					log.warn("Invalid location, skip - meetingUserId: {}", location.getMeetingUserId());
+					continue;
+				}
+
 				MeetingUser meetingUser = meetingUserMap.get(location.getMeetingUserId());
 				if (meetingUser == null) {
 					log.warn("MeetingUser not found, skip: {}", location.getMeetingUserId());
@@ -115,14 +139,15 @@ public class LocationBatchService {
 				}
 			}
 
-			locationHistoryRepository.saveAll(locationHistories);
-
 			// 성공한 userId가 있으면 Map에 추가
 			if (!successUserIds.isEmpty()) {
 				successMap.put(meetingId, successUserIds);
 			}
 		}
 
+		locationHistoryJdbcRepository.batchInsert(locationHistories);
+		historyRowsCounter.increment(locationHistories.size());
+
 		return successMap;
 	}
 }
\ No newline at end of file
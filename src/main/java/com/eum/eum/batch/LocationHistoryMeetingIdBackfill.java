@@ -0,0 +1,50 @@
+package com.eum.eum.batch;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * location_history.meeting_id 백필 (경로 조회가 meeting_id 조건만 사용하므로 컬럼 추가 전 이력은 채워야 조회됨)
+ * 파티션 전환 스크립트를 실행하지 않은 DB(H2, ddl-auto: update만 적용된 개발 DB)도 대상
+ * DB 공통 SQL(상관 서브쿼리)로 청크 단위 갱신, 비어 있는 행이 없으면 조회 1번으로 끝난다
+ * 참여자가 삭제된 이력은 채울 수 없으므로 건너뛴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationHistoryMeetingIdBackfill {
+	static final int CHUNK_SIZE = 10_000;
+
+	static final String BACKFILL_SQL =
+		"UPDATE location_history SET meeting_id = " +
+			"(SELECT mu.meeting_id FROM tb_meeting_user mu WHERE mu.id = location_history.meeting_user_id) " +
+			"WHERE id IN (SELECT lh.id FROM location_history lh " +
+			"WHERE lh.meeting_id IS NULL " +
+			"AND EXISTS (SELECT 1 FROM tb_meeting_user mu WHERE mu.id = lh.meeting_user_id) " +
+			"LIMIT " + CHUNK_SIZE + ")";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onStartup() {
+		try {
+			long total = 0;
+			int updated;
+			do {
+				updated = jdbcTemplate.update(BACKFILL_SQL);
+				total += updated;
+			} while (updated == CHUNK_SIZE);
+
+			if (total > 0) {
+				log.info("location_history meeting_id 백필 완료 - {}건", total);
+			}
+		} catch (Exception e) {
+			log.error("location_history meeting_id 백필 실패", e);
+		}
+	}
+}
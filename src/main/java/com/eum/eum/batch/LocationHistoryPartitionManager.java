@@ -0,0 +1,118 @@
+package com.eum.eum.batch;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * location_history 일 단위 파티션 관리 (PostgreSQL 전용)
+ * - 오늘 ~ premakeDays 후까지 파티션을 미리 생성
+ * - retentionDays 보다 오래된 파티션은 DELETE 대신 DROP TABLE로 제거
+ * location_history가 파티션 테이블이 아니면(H2, 마이그레이션 전) 아무것도 하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationHistoryPartitionManager {
+	static final String PARENT_TABLE = "location_history";
+	static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+	static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${location.history.partition.premake-days:3}")
+	private int premakeDays;
+
+	@Value("${location.history.partition.retention-days:90}")
+	private int retentionDays;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onStartup() {
+		maintain();
+	}
+
+	// 매일 새벽 3시
+	@Scheduled(cron = "0 0 3 * * *")
+	public void maintain() {
+		try {
+			if (!isPartitioned()) {
+				return;
+			}
+			LocalDate today = LocalDate.now();
+			createPartitions(today, today.plusDays(premakeDays));
+			dropPartitionsBefore(today.minusDays(retentionDays));
+		} catch (Exception e) {
+			log.error("location_history 파티션 관리 실패", e);
+		}
+	}
+
+	private boolean isPartitioned() {
+		try {
+			Integer count = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM pg_partitioned_table pt " +
+					"JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?",
+				Integer.class, PARENT_TABLE);
+			return count != null && count > 0;
+		} catch (Exception e) {
+			// pg_catalog가 없는 DB (H2 등)
+			return false;
+		}
+	}
+
+	private void createPartitions(LocalDate from, LocalDate toInclusive) {
+		for (LocalDate day = from; !day.isAfter(toInclusive); day = day.plusDays(1)) {
+			String sql = String.format(
+				"CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+				partitionName(day), PARENT_TABLE, day, day.plusDays(1));
+			try {
+				jdbcTemplate.execute(sql);
+			} catch (Exception e) {
+				// default 파티션에 해당 일자 행이 있으면 생성 불가 -> 다음 일자는 계속 진행
+				log.warn("파티션 생성 실패 - {}: {}", partitionName(day), e.getMessage());
+			}
+		}
+	}
+
+	private void dropPartitionsBefore(LocalDate cutoff) {
+		List<String> partitions = jdbcTemplate.queryForList(
+			"SELECT c.relname FROM pg_inherits i " +
+				"JOIN pg_class c ON c.oid = i.inhrelid " +
+				"JOIN pg_class p ON p.oid = i.inhparent " +
+				"WHERE p.relname = ?",
+			String.class, PARENT_TABLE);
+
+		for (String partition : partitions) {
+			LocalDate day = parseDay(partition);
+			if (day != null && day.isBefore(cutoff)) {
+				jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+				log.info("만료 파티션 삭제 - {}", partition);
+			}
+		}
+	}
+
+	static String partitionName(LocalDate day) {
+		return PARTITION_PREFIX + day.format(SUFFIX_FORMAT);
+	}
+
+	// location_history_pYYYYMMDD 형식이 아니면(default 파티션 등) null
+	static LocalDate parseDay(String partitionName) {
+		if (!partitionName.startsWith(PARTITION_PREFIX)) {
+			return null;
+		}
+		try {
+			return LocalDate.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
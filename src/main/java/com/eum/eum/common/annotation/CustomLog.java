@@ -9,6 +9,10 @@ import java.lang.annotation.Target;
  * 커스텀 로깅 어노테이션
  * 메서드에 적용하여 실행 전후의 다양한 정보를 선택적으로 로깅할 수 있습니다.
  * LogType 배열을 통해 필요한 로그만 활성화할 수 있어 성능 오버헤드를 최소화합니다.
+ *
+ * 기본은 샘플링 모드: sampleRate 비율의 호출만 측정해 메서드별 히스토그램에 집계하고,
+ * 주기적으로 요약 한 줄을 남깁니다. (상시 켜 두는 용도)
+ * verbose = true 면 샘플마다 기존처럼 상세 로그를 출력합니다. (로컬 디버깅용)
  * @see CustomLoggingAspect
  */
 @Target(ElementType.METHOD)
@@ -16,6 +20,16 @@ import java.lang.annotation.Target;
 public @interface CustomLog {
 	LogType[] value() default {};
 
+	/**
+	 * 측정할 호출 비율 (0.0 ~ 1.0), 0 이하면 측정하지 않음
+	 */
+	double sampleRate() default 1.0;
+
+	/**
+	 * 샘플마다 상세 로그 출력 여부 (집계 대신 기존 방식)
+	 */
+	boolean verbose() default false;
+
 	enum LogType {
 		QUERY,                    // 실행된 쿼리
 		EXECUTION_TIME,           // 메서드 실행 시간
@@ -3,11 +3,16 @@ package com.eum.eum.common.aspect;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -19,11 +24,19 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.eum.eum.common.annotation.CustomLog;
 import com.eum.eum.common.annotation.CustomLog.LogType;
-
+import com.eum.eum.common.query.QueryCount;
+import com.eum.eum.common.query.QueryCountHolder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +47,12 @@ import lombok.extern.slf4j.Slf4j;
  * @CustomLog 어노테이션이 적용된 메서드의 실행 전후로 다양한 정보를 로깅합니다.
  * 쿼리 실행, 실행 시간, 메모리 사용량, 영속성 컨텍스트 등의 정보를 선택적으로 로깅할 수 있습니다.
  *
+ * 기본(샘플링) 모드
+ * - sampleRate 비율의 호출만 측정 (미샘플 호출은 난수 1회 + proceed)
+ * - 메서드별 히스토그램(eum.custom.log.*)에 집계: 실행 시간, 쿼리 수, 영속성 컨텍스트 크기, 스레드 할당 바이트
+ * - 로그는 summary-interval-ms 주기로 메서드당 한 줄만 출력
+ * verbose 모드는 기존 상세 로그 (MemoryMXBean, 영속성 컨텍스트 순회 포함 - 운영에서는 사용 금지)
+ *
  * TODO: Strategy 패턴으로 리팩토링
  *       - LogStrategy 인터페이스 생성
  *       - 각 LogType별로 개별 Strategy 구현체 분리 (QueryLogStrategy, MemoryLogStrategy 등)
@@ -45,10 +64,19 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CustomLoggingAspect {
 
+	private static final double[] PERCENTILES = {0.5, 0.99};
+
 	private final EntityManager entityManager;
+	private final MeterRegistry meterRegistry;
 	private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
 	private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
+	// 스레드별 누적 할당 바이트 (HotSpot 확장, 미지원 JVM이면 null)
+	private final com.sun.management.ThreadMXBean threadMXBean = allocationThreadMXBean();
+
+	// 메서드별 집계 (최초 샘플 시 한 번만 생성)
+	private final Map<Method, MethodProfile> profiles = new ConcurrentHashMap<>();
+
 	/**
 	 * @CustomLog 어노테이션이 적용된 메서드를 가로채서 선택된 로그 타입에 따라 로깅을 수행합니다.
 	 *
@@ -59,7 +87,134 @@ public class CustomLoggingAspect {
 	 */
 	@Around("@annotation(customLog)")
 	public Object logCustom(ProceedingJoinPoint joinPoint, CustomLog customLog) throws Throwable {
-		Set<LogType> logTypes = Set.of(customLog.value());
+		if (!isSampled(customLog.sampleRate())) {
+			return joinPoint.proceed();
+		}
+
+		MethodProfile profile = profileOf(joinPoint, customLog);
+		// 쿼리 수는 이 메서드 범위로 집계 (요청 범위가 열려 있으면 그 안에 중첩)
+		QueryCount queryScope = profile.logTypes.contains(LogType.QUERY) ? QueryCountHolder.start() : null;
+		try {
+			if (customLog.verbose()) {
+				return logVerbose(joinPoint, profile.logTypes);
+			}
+			return measure(joinPoint, profile);
+		} finally {
+			if (queryScope != null) {
+				QueryCountHolder.end(queryScope);
+			}
+		}
+	}
+
+	/**
+	 * 샘플 호출을 측정해 메서드별 히스토그램에 기록합니다.
+	 * 쿼리 수/할당 바이트는 전후 차이, 영속성 컨텍스트는 실행 후 관리 엔티티 수(개수만, 순회 없음)
+	 */
+	private Object measure(ProceedingJoinPoint joinPoint, MethodProfile profile) throws Throwable {
+		long beforeQueries = profile.queries != null ? getQueryCount() : 0;
+		long beforeAllocated = profile.allocatedBytes != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+		long start = System.nanoTime();
+
+		try {
+			return joinPoint.proceed();
+		} finally {
+			profile.executionTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+			if (profile.allocatedBytes != null) {
+				long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - beforeAllocated;
+				if (allocated >= 0) {
+					profile.allocatedBytes.record(allocated);
+				}
+			}
+			if (profile.queries != null) {
+				profile.queries.record(getQueryCount() - beforeQueries);
+			}
+			if (profile.entities != null) {
+				Integer entityCount = getManagedEntityCount();
+				if (entityCount != null) {
+					profile.entities.record(entityCount);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 직전 요약 이후 샘플이 있는 메서드만 한 줄씩 요약합니다.
+	 * 평균은 구간(직전 요약 이후) 기준, p50/p99/max는 Micrometer 시간 윈도우 기준
+	 */
+	@Scheduled(fixedDelayString = "${custom-log.summary-interval-ms:60000}")
+	public void logSummary() {
+		profiles.values().forEach(profile -> {
+			long count = profile.executionTime.count();
+			long samples = count - profile.lastCount;
+			if (samples <= 0) {
+				return;
+			}
+			profile.lastCount = count;
+
+			HistogramSnapshot time = profile.executionTime.takeSnapshot();
+			StringBuilder summary = new StringBuilder()
+				.append("[CustomLog] ").append(profile.name)
+				.append(" 샘플 ").append(samples).append("건")
+				.append(" | 시간(ms) avg ")
+				.append(format(profile.timeWindow.mean(count, profile.executionTime.totalTime(TimeUnit.MILLISECONDS))));
+			for (ValueAtPercentile percentile : time.percentileValues()) {
+				summary.append(" p").append((int)(percentile.percentile() * 100))
+					.append(' ').append(format(percentile.value(TimeUnit.MILLISECONDS)));
+			}
+			summary.append(" max ").append(format(time.max(TimeUnit.MILLISECONDS)));
+
+			appendSummary(summary, "쿼리", profile.queries, profile.queryWindow);
+			appendSummary(summary, "엔티티", profile.entities, profile.entityWindow);
+			appendSummary(summary, "할당(B)", profile.allocatedBytes, profile.allocationWindow);
+
+			log.info(summary.toString());
+		});
+	}
+
+	private void appendSummary(StringBuilder summary, String label, DistributionSummary meter, Window window) {
+		if (meter == null) {
+			return;
+		}
+		summary.append(" | ").append(label)
+			.append(" avg ").append(format(window.mean(meter.count(), meter.totalAmount())))
+			.append(" max ").append(format(meter.max()));
+	}
+
+	private static String format(double value) {
+		return String.format("%.2f", value);
+	}
+
+	private boolean isSampled(double sampleRate) {
+		if (sampleRate >= 1.0) {
+			return true;
+		}
+		return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	private MethodProfile profileOf(ProceedingJoinPoint joinPoint, CustomLog customLog) {
+		Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
+		MethodProfile profile = profiles.get(method);
+		if (profile != null) {
+			return profile;
+		}
+		return profiles.computeIfAbsent(method,
+			m -> new MethodProfile(joinPoint.getSignature().toShortString(), customLog.value(), meterRegistry,
+				threadMXBean != null));
+	}
+
+	private static com.sun.management.ThreadMXBean allocationThreadMXBean() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+			&& bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+			return bean;
+		}
+		return null;
+	}
+
+	/**
+	 * 샘플마다 상세 로그를 출력합니다. (verbose 모드)
+	 */
+	private Object logVerbose(ProceedingJoinPoint joinPoint, Set<LogType> logTypes) throws Throwable {
 		String methodName = joinPoint.getSignature().toShortString();
 
 		// 로깅 데이터 수집
@@ -316,19 +471,14 @@ public class CustomLoggingAspect {
 	}
 
 	/**
-	 * Hibernate Statistics를 통해 현재까지 실행된 총 쿼리 수를 조회합니다.
+	 * 현재 스레드 범위에서 실행된 SQL 수를 조회합니다. (QueryCountInspector 집계)
+	 * 전역 Statistics와 달리 다른 스레드의 쿼리가 섞이지 않습니다.
 	 *
-	 * @return 실행된 쿼리 수 (조회 실패 시 0)
+	 * @return 실행된 쿼리 수 (열린 범위가 없으면 0)
 	 */
 	private long getQueryCount() {
-		try {
-			SessionImpl session = entityManager.unwrap(SessionImpl.class);
-			SessionFactory sessionFactory = session.getSessionFactory();
-			Statistics statistics = sessionFactory.getStatistics();
-			return statistics.getQueryExecutionCount();
-		} catch (Exception e) {
-			return 0;
-		}
+		QueryCount count = QueryCountHolder.current();
+		return count != null ? count.getTotal() : 0;
 	}
 
 	/**
@@ -352,6 +502,77 @@ public class CustomLoggingAspect {
 		}
 	}
 
+	/**
+	 * 영속성 컨텍스트의 관리 엔티티 수만 조회합니다. (샘플링 모드용, 엔티티 순회 없음)
+	 *
+	 * @return 관리 중인 엔티티 개수 (조회 실패 시 null)
+	 */
+	private Integer getManagedEntityCount() {
+		try {
+			return entityManager.unwrap(SessionImpl.class).getPersistenceContext().getNumberOfManagedEntities();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 메서드별 샘플 집계
+	 * 활성화된 LogType에 해당하는 히스토그램만 등록 (나머지는 null)
+	 */
+	private static class MethodProfile {
+		final String name;
+		final Set<LogType> logTypes;
+		final Timer executionTime;
+		final DistributionSummary queries;
+		final DistributionSummary entities;
+		final DistributionSummary allocatedBytes;
+
+		// 요약 출력용 직전 값 (스케줄러 스레드에서만 접근)
+		long lastCount;
+		final Window timeWindow = new Window();
+		final Window queryWindow = new Window();
+		final Window entityWindow = new Window();
+		final Window allocationWindow = new Window();
+
+		MethodProfile(String name, LogType[] types, MeterRegistry registry, boolean allocationSupported) {
+			this.name = name;
+			this.logTypes = types.length == 0 ? EnumSet.noneOf(LogType.class) : EnumSet.of(types[0], types);
+			this.executionTime = Timer.builder("eum.custom.log.time")
+				.tag("method", name)
+				.publishPercentiles(PERCENTILES)
+				.register(registry);
+			this.queries = logTypes.contains(LogType.QUERY) ? summary("eum.custom.log.queries", null, registry) : null;
+			this.entities = logTypes.contains(LogType.PERSISTENCE_CONTEXT)
+				? summary("eum.custom.log.entities", null, registry) : null;
+			this.allocatedBytes = logTypes.contains(LogType.MEMORY_USAGE) && allocationSupported
+				? summary("eum.custom.log.allocated", "bytes", registry) : null;
+		}
+
+		private DistributionSummary summary(String metricName, String baseUnit, MeterRegistry registry) {
+			return DistributionSummary.builder(metricName)
+				.tag("method", name)
+				.baseUnit(baseUnit)
+				.publishPercentiles(PERCENTILES)
+				.register(registry);
+		}
+	}
+
+	/**
+	 * 누적 count/total 로 직전 요약 이후 구간 평균을 계산
+	 */
+	private static class Window {
+		long lastCount;
+		double lastTotal;
+
+		double mean(long count, double total) {
+			long deltaCount = count - lastCount;
+			double deltaTotal = total - lastTotal;
+			lastCount = count;
+			lastTotal = total;
+			return deltaCount > 0 ? deltaTotal / deltaCount : 0;
+		}
+	}
+
 	/**
 	 * 로깅에 필요한 컨텍스트 데이터를 담는 내부 클래스
 	 * 메서드 실행 전후의 상태를 추적하기 위해 사용됩니다.
@@ -0,0 +1,91 @@
+package com.eum.eum.common.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.eum.eum.location.service.LocationIngestFilter;
+import com.eum.eum.websocket.session.WebSocketSessionRegistry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 이미 값을 들고 있는 컴포넌트는 스크레이프 시점에 읽어가는 미터(Gauge/FunctionCounter)로 노출
+ * -> 호출 경로에는 측정 코드가 없다
+ * 호출마다 기록해야 하는 타이머는 각 컴포넌트에서 생성 시 등록 (eum.location.publish, eum.location.cache 등)
+ */
+@Configuration
+public class MetricsConfig {
+
+	/**
+	 * 위치 수신 필터 결과 (forwarded / suppressed / ttl_refreshed)
+	 */
+	@Bean
+	public MeterBinder locationIngestMetrics(LocationIngestFilter locationIngestFilter) {
+		return registry -> {
+			FunctionCounter.builder("eum.location.ingest", locationIngestFilter,
+					LocationIngestFilter::getForwardedCount)
+				.tag("result", "forwarded")
+				.register(registry);
+			FunctionCounter.builder("eum.location.ingest", locationIngestFilter,
+					LocationIngestFilter::getSuppressedCount)
+				.tag("result", "suppressed")
+				.register(registry);
+			FunctionCounter.builder("eum.location.ingest", locationIngestFilter,
+					LocationIngestFilter::getTtlRefreshedCount)
+				.tag("result", "ttl_refreshed")
+				.register(registry);
+			Gauge.builder("eum.location.ingest.tracked", locationIngestFilter, LocationIngestFilter::getTrackedCount)
+				.description("필터가 마지막 위치를 들고 있는 사용자 수")
+				.register(registry);
+		};
+	}
+
+	/**
+	 * 이 노드의 WebSocket 세션 수
+	 */
+	@Bean
+	public MeterBinder webSocketSessionMetrics(WebSocketSessionRegistry webSocketSessionRegistry) {
+		return registry -> Gauge.builder("eum.websocket.sessions", webSocketSessionRegistry,
+				WebSocketSessionRegistry::localSessionCount)
+			.description("이 노드에 연결된 WebSocket 세션 수")
+			.register(registry);
+	}
+
+	/**
+	 * STOMP 채널 처리 큐 적체 (inbound: 클라이언트 -> 서버, outbound: 서버 -> 클라이언트)
+	 */
+	@Bean
+	public MeterBinder stompChannelMetrics(
+		@Qualifier("clientInboundChannelExecutor") Executor inbound,
+		@Qualifier("clientOutboundChannelExecutor") Executor outbound,
+		@Qualifier("brokerChannelExecutor") Executor broker
+	) {
+		return registry -> {
+			bindExecutor(registry, "inbound", inbound);
+			bindExecutor(registry, "outbound", outbound);
+			bindExecutor(registry, "broker", broker);
+		};
+	}
+
+	private static void bindExecutor(MeterRegistry registry, String channel, Executor executor) {
+		// 채널 executor를 설정하지 않으면 동기 실행이라 큐가 없다
+		if (!(executor instanceof ThreadPoolTaskExecutor pool)) {
+			return;
+		}
+
+		Gauge.builder("eum.stomp.queue.depth", pool, p -> p.getThreadPoolExecutor().getQueue().size())
+			.description("STOMP 채널 대기 메시지 수")
+			.tag("channel", channel)
+			.register(registry);
+		Gauge.builder("eum.stomp.active.threads", pool, ThreadPoolTaskExecutor::getActiveCount)
+			.tag("channel", channel)
+			.register(registry);
+	}
+}
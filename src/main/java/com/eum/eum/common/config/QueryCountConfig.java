@@ -0,0 +1,21 @@
+package com.eum.eum.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eum.eum.common.query.QueryCountInspector;
+
+/**
+ * 요청/메시지 단위 SQL 집계용 StatementInspector 등록
+ * (@DataJpaTest 같은 슬라이스 테스트에서 쿼리 예산을 검사하려면 이 설정을 @Import)
+ */
+@Configuration
+public class QueryCountConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+	}
+}
@@ -7,6 +7,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -50,6 +51,23 @@ public class RedisConfig {
 		RedisTemplate<String, Object> template = new RedisTemplate<>();
 		template.setConnectionFactory(connectionFactory);
 
+		GenericJackson2JsonRedisSerializer jsonSerializer = jsonRedisSerializer();
+
+		// Key: String, Value: JSON
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(jsonSerializer);
+		template.setHashKeySerializer(new StringRedisSerializer());
+		template.setHashValueSerializer(jsonSerializer);
+		template.afterPropertiesSet();
+
+		return template;
+	}
+
+	/**
+	 * Redis 값 직렬화 (JSON + @class 타입 정보)
+	 * 벤치마크(src/jmh)에서도 같은 설정을 쓰도록 static으로 분리
+	 */
+	public static GenericJackson2JsonRedisSerializer jsonRedisSerializer() {
 		ObjectMapper objectMapper = new ObjectMapper();
 		objectMapper.registerModule(new JavaTimeModule());
 		objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -59,16 +77,19 @@ public class RedisConfig {
 			JsonTypeInfo.As.PROPERTY
 		);
 
-		GenericJackson2JsonRedisSerializer jsonSerializer =
-			new GenericJackson2JsonRedisSerializer(objectMapper);
-
-		// Key: String, Value: JSON
-		template.setKeySerializer(new StringRedisSerializer());
-		template.setValueSerializer(jsonSerializer);
-		template.setHashKeySerializer(new StringRedisSerializer());
-		template.setHashValueSerializer(jsonSerializer);
-		template.afterPropertiesSet();
+		return new GenericJackson2JsonRedisSerializer(objectMapper);
+	}
 
-		return template;
+	/**
+	 * Redis Pub/Sub 리스너 컨테이너
+	 * 노드 간 로컬 캐시 무효화 메시지 수신용
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory connectionFactory
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
 	}
-}
\ No newline at end of file
+}
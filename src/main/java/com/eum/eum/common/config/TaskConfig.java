@@ -33,4 +33,14 @@ public class TaskConfig {
 		scheduler.initialize();
 		return scheduler;
 	}
-}
\ No newline at end of file
+
+	// 위치 브로드캐스트 flush 전용 (@Scheduled 단일 스레드의 배치 작업에 밀리지 않도록 분리)
+	@Bean
+	public TaskScheduler locationBroadcastScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("ws-location-flush-");
+		scheduler.initialize();
+		return scheduler;
+	}
+}
@@ -0,0 +1,61 @@
+package com.eum.eum.common.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 범위(HTTP 요청, STOMP 메시지, 테스트 블록 등) 안에서 실행된 SQL 집계
+ * 같은 스레드에서만 기록되므로 동기화하지 않는다
+ *
+ * 바인딩 파라미터는 ? 로 남아 있으므로 id만 다른 반복 조회는 같은 문장으로 묶인다 -> N+1 탐지
+ */
+public class QueryCount {
+	private final QueryCount parent;
+	private final Map<String, Integer> statements = new HashMap<>();
+	private int total;
+
+	QueryCount(QueryCount parent) {
+		this.parent = parent;
+	}
+
+	// 바깥 범위에도 같이 기록 (요청 안의 @CustomLog 메서드 등 중첩 측정)
+	void record(String sql) {
+		total++;
+		statements.merge(sql, 1, Integer::sum);
+		if (parent != null) {
+			parent.record(sql);
+		}
+	}
+
+	QueryCount getParent() {
+		return parent;
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * 가장 많이 반복된 동일 문장의 실행 횟수
+	 */
+	public int getMaxRepeat() {
+		int max = 0;
+		for (int count : statements.values()) {
+			max = Math.max(max, count);
+		}
+		return max;
+	}
+
+	/**
+	 * threshold 번 이상 반복된 문장과 실행 횟수
+	 */
+	public Map<String, Integer> getRepeated(int threshold) {
+		Map<String, Integer> repeated = new HashMap<>();
+		statements.forEach((sql, count) -> {
+			if (count >= threshold) {
+				repeated.put(sql, count);
+			}
+		});
+		return repeated;
+	}
+}
@@ -0,0 +1,85 @@
+package com.eum.eum.common.query;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.eum.eum.common.query.QueryCountMetrics.Scope;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청 단위 쿼리 집계
+ * Security 필터 체인보다 먼저 실행해 인증 단계의 사용자 조회까지 포함한다
+ *
+ * query-count.response-headers=true (local 전용) 이면 응답 헤더로도 내려준다
+ * - X-Query-Count      : 요청 중 실행된 SQL 수
+ * - X-Query-Max-Repeat : 가장 많이 반복된 동일 SQL 횟수 (N+1 확인용)
+ * 본문을 버퍼링하지 않고 응답이 커밋되기 직전(첫 flush)에 헤더를 붙인다
+ * -> StreamingResponseBody(NDJSON), SockJS xhr-streaming 같은 비동기 응답도 그대로 흘려보낸다
+ *    (비동기 스레드에서 실행된 쿼리는 집계되지 않음)
+ *
+ * 한계: StatementInspector는 Hibernate를 거치는 SQL만 본다
+ * JdbcTemplate로 직접 실행하는 SQL (LocationHistoryJdbcRepository, MeetingUserJdbcRepository 배치 INSERT 등)은 집계되지 않는다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+	public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+	public static final String MAX_REPEAT_HEADER = "X-Query-Max-Repeat";
+
+	private final QueryCountMetrics queryCountMetrics;
+
+	@Value("${query-count.response-headers:false}")
+	private boolean responseHeaders;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+		QueryCount count = QueryCountHolder.start();
+
+		try {
+			chain.doFilter(request, responseHeaders ? new QueryCountHeaderResponse(response, count) : response);
+		} finally {
+			QueryCountHolder.end(count);
+			queryCountMetrics.record(Scope.HTTP, request.getMethod() + " " + request.getRequestURI(), count);
+
+			// 체인 안에서 커밋되지 않은 응답 (본문이 작아 컨테이너가 필터 이후에 커밋하는 경우)
+			if (responseHeaders && !response.isCommitted()) {
+				setHeaders(response, count);
+			}
+		}
+	}
+
+	private static void setHeaders(HttpServletResponse response, QueryCount count) {
+		response.setHeader(QUERY_COUNT_HEADER, String.valueOf(count.getTotal()));
+		response.setHeader(MAX_REPEAT_HEADER, String.valueOf(count.getMaxRepeat()));
+	}
+
+	/**
+	 * 커밋 직전에 그 시점까지의 쿼리 수를 헤더로 기록 (본문 버퍼링 없음)
+	 */
+	private static class QueryCountHeaderResponse extends OnCommittedResponseWrapper {
+		private final QueryCount count;
+
+		QueryCountHeaderResponse(HttpServletResponse response, QueryCount count) {
+			super(response);
+			this.count = count;
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+			setHeaders((HttpServletResponse)getResponse(), count);
+		}
+	}
+}
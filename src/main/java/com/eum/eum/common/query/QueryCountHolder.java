@@ -0,0 +1,37 @@
+package com.eum.eum.common.query;
+
+/**
+ * 현재 스레드의 쿼리 집계 범위
+ * start()로 연 범위는 반드시 같은 스레드에서 end()로 닫는다 (try-finally)
+ */
+public final class QueryCountHolder {
+	private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+	private QueryCountHolder() {
+	}
+
+	/**
+	 * 새 범위 시작, 이미 열린 범위가 있으면 그 안에 중첩된다
+	 */
+	public static QueryCount start() {
+		QueryCount count = new QueryCount(CURRENT.get());
+		CURRENT.set(count);
+		return count;
+	}
+
+	/**
+	 * 범위 종료, 바깥 범위로 복귀
+	 */
+	public static void end(QueryCount count) {
+		QueryCount parent = count.getParent();
+		if (parent != null) {
+			CURRENT.set(parent);
+		} else {
+			CURRENT.remove();
+		}
+	}
+
+	public static QueryCount current() {
+		return CURRENT.get();
+	}
+}
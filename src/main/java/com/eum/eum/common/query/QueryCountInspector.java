@@ -0,0 +1,19 @@
+package com.eum.eum.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 모든 SQL을 현재 스레드의 범위에 기록 (SQL은 변경하지 않음)
+ * 열린 범위가 없으면 ThreadLocal 조회 1회로 끝난다
+ */
+public class QueryCountInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		QueryCount count = QueryCountHolder.current();
+		if (count != null) {
+			count.record(sql);
+		}
+		return sql;
+	}
+}
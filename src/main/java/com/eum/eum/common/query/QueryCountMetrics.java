@@ -0,0 +1,70 @@
+package com.eum.eum.common.query;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청/메시지 단위 쿼리 수 기록 + N+1 의심 경고
+ * - eum.query.count{scope}    : 범위당 실행된 SQL 수
+ * - eum.query.repeated{scope} : 같은 문장이 repeat-threshold 번 이상 반복된 범위 수
+ */
+@Slf4j
+@Component
+public class QueryCountMetrics {
+
+	public enum Scope {
+		HTTP, STOMP
+	}
+
+	private static final int SQL_LOG_MAX_LENGTH = 200;
+
+	private final int repeatThreshold;
+	private final Map<Scope, DistributionSummary> queryCounts = new EnumMap<>(Scope.class);
+	private final Map<Scope, Counter> repeatedCounts = new EnumMap<>(Scope.class);
+
+	public QueryCountMetrics(
+		MeterRegistry meterRegistry,
+		@Value("${query-count.repeat-threshold:3}") int repeatThreshold
+	) {
+		this.repeatThreshold = repeatThreshold;
+		for (Scope scope : Scope.values()) {
+			String tag = scope.name().toLowerCase();
+			queryCounts.put(scope, DistributionSummary.builder("eum.query.count")
+				.tag("scope", tag)
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry));
+			repeatedCounts.put(scope, Counter.builder("eum.query.repeated")
+				.tag("scope", tag)
+				.register(meterRegistry));
+		}
+	}
+
+	public void record(Scope scope, String name, QueryCount count) {
+		queryCounts.get(scope).record(count.getTotal());
+
+		if (count.getMaxRepeat() < repeatThreshold) {
+			return;
+		}
+		repeatedCounts.get(scope).increment();
+		count.getRepeated(repeatThreshold).forEach((sql, times) ->
+			log.warn("N+1 의심 - [{}] {}: 동일 쿼리 {}회 (총 {}건) {}", scope, name, times, count.getTotal(),
+				abbreviate(sql)));
+	}
+
+	public int getRepeatThreshold() {
+		return repeatThreshold;
+	}
+
+	private static String abbreviate(String sql) {
+		String oneLine = sql.replaceAll("\\s+", " ");
+		return oneLine.length() > SQL_LOG_MAX_LENGTH ? oneLine.substring(0, SQL_LOG_MAX_LENGTH) + "..." : oneLine;
+	}
+}
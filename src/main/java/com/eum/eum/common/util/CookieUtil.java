@@ -20,6 +20,10 @@ public class CookieUtil {
 		response.addCookie(cookie);
 	}
 
+	public static void deleteCookie(HttpServletResponse response, String name) {
+		addCookie(response, name, "", true, 0);
+	}
+
 	public static String getCookie(
 		String name,
 		HttpServletRequest request
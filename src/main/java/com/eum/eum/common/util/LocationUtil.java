@@ -1,6 +1,14 @@
 package com.eum.eum.common.util;
 
 public class LocationUtil {
+	private static final double EARTH_RADIUS = 6371000; // 지구 반지름 (미터)
+
+	/**
+	 * 이 거리(미터) 이하의 판단은 평면 근사(equirectangular)로 처리
+	 * 10km 이내에서는 하버사인 대비 상대 오차 1e-6 미만 (60m 기준이면 0.1mm 미만) - LocationUtilTest 참고
+	 */
+	public static final double EQUIRECTANGULAR_MAX_METERS = 10_000;
+
 	/**
 	 * 하버사인 공식을 이용한 두 지점 간 거리 계산 (단위: 미터)
 	 */
@@ -9,25 +17,101 @@ public class LocationUtil {
 			return Double.MAX_VALUE;
 		}
 
-		final int EARTH_RADIUS = 6371000; // 지구 반지름 (미터)
+		return haversine(lat1, lng1, lat2, lng2);
+	}
+
+	/**
+	 * 두 위치가 지정된 거리(미터) 이내인지 판단
+	 * 도착/이동 판정처럼 짧은 거리 기준이면 평면 근사 + 제곱 비교 (삼각함수 1회, sqrt 없음)
+	 */
+	public static boolean isWithinDistance(Double lat1, Double lng1, Double lat2, Double lng2,
+		double distanceInMeters) {
+		if (lat1 == null || lng1 == null || lat2 == null || lng2 == null) {
+			return false;
+		}
+
+		return isWithinDistance(lat1.doubleValue(), lng1.doubleValue(), lat2.doubleValue(), lng2.doubleValue(),
+			distanceInMeters);
+	}
+
+	public static boolean isWithinDistance(double lat1, double lng1, double lat2, double lng2,
+		double distanceInMeters) {
+		if (distanceInMeters > EQUIRECTANGULAR_MAX_METERS) {
+			return haversine(lat1, lng1, lat2, lng2) <= distanceInMeters;
+		}
+
+		double x = Math.toRadians(normalizeLngDelta(lng2 - lng1)) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+		double y = Math.toRadians(lat2 - lat1);
+		double limit = distanceInMeters / EARTH_RADIUS;
+
+		return x * x + y * y <= limit * limit;
+	}
 
+	/**
+	 * 하버사인 거리 (primitive, 미터)
+	 */
+	public static double haversine(double lat1, double lng1, double lat2, double lng2) {
 		double latDistance = Math.toRadians(lat2 - lat1);
 		double lngDistance = Math.toRadians(lng2 - lng1);
 
-		double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-			+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-			* Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+		double sinLat = Math.sin(latDistance / 2);
+		double sinLng = Math.sin(lngDistance / 2);
+		double a = sinLat * sinLat
+			+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
 
-		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+		return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+	}
 
-		return EARTH_RADIUS * c;
+	/**
+	 * 평면 근사 거리 (equirectangular, 미터)
+	 * 두 지점의 평균 위도에서 경도 차를 보정 - 삼각함수 1회
+	 * 짧은 거리(EQUIRECTANGULAR_MAX_METERS 이하) 전용
+	 */
+	public static double equirectangular(double lat1, double lng1, double lat2, double lng2) {
+		double x = Math.toRadians(normalizeLngDelta(lng2 - lng1)) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+		double y = Math.toRadians(lat2 - lat1);
+		return EARTH_RADIUS * Math.sqrt(x * x + y * y);
 	}
 
 	/**
-	 * 두 위치가 지정된 거리(미터) 이내인지 판단
+	 * 기준점에서 여러 지점까지의 평면 근사 거리 (배치용)
+	 * 기준 위도의 cos는 한 번만 계산 (지점 간 위도 차가 작다는 전제)
+	 * @param out lats/lngs와 같은 길이, 결과(미터)를 채움
 	 */
-	public static boolean isWithinDistance(Double lat1, Double lng1, Double lat2, Double lng2,
-		double distanceInMeters) {
-		return calculateDistance(lat1, lng1, lat2, lng2) <= distanceInMeters;
+	public static void equirectangular(double refLat, double refLng, double[] lats, double[] lngs, double[] out) {
+		if (lats.length != lngs.length || out.length < lats.length) {
+			throw new IllegalArgumentException("lats, lngs, out 길이가 맞지 않습니다.");
+		}
+
+		double cosRef = Math.cos(Math.toRadians(refLat));
+		double radLat = Math.toRadians(refLat);
+		double radLng = Math.toRadians(refLng);
+
+		for (int i = 0; i < lats.length; i++) {
+			double x = normalizeRad(Math.toRadians(lngs[i]) - radLng) * cosRef;
+			double y = Math.toRadians(lats[i]) - radLat;
+			out[i] = EARTH_RADIUS * Math.sqrt(x * x + y * y);
+		}
+	}
+
+	// 날짜변경선을 넘는 경우 경도 차를 [-180, 180]으로
+	private static double normalizeLngDelta(double deltaDegrees) {
+		if (deltaDegrees > 180) {
+			return deltaDegrees - 360;
+		}
+		if (deltaDegrees < -180) {
+			return deltaDegrees + 360;
+		}
+		return deltaDegrees;
+	}
+
+	private static double normalizeRad(double deltaRad) {
+		if (deltaRad > Math.PI) {
+			return deltaRad - 2 * Math.PI;
+		}
+		if (deltaRad < -Math.PI) {
+			return deltaRad + 2 * Math.PI;
+		}
+		return deltaRad;
 	}
 }
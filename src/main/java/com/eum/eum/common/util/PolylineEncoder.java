@@ -0,0 +1,74 @@
+package com.eum.eum.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Google Encoded Polyline (정밀도 1e5, 약 1.1m)
+ * 좌표를 이전 지점과의 차이(delta)로 바꾼 뒤 5비트 단위 가변 길이 문자로 인코딩
+ * 경로 응답 크기를 줄이기 위한 용도 (Kakao/Google 지도 SDK에서 바로 디코딩 가능)
+ */
+public class PolylineEncoder {
+	private static final double PRECISION = 1e5;
+
+	private PolylineEncoder() {
+	}
+
+	public static <T> String encode(List<T> points, ToDoubleFunction<T> lat, ToDoubleFunction<T> lng) {
+		StringBuilder sb = new StringBuilder(points.size() * 8);
+		long prevLat = 0;
+		long prevLng = 0;
+
+		for (T point : points) {
+			long currentLat = Math.round(lat.applyAsDouble(point) * PRECISION);
+			long currentLng = Math.round(lng.applyAsDouble(point) * PRECISION);
+
+			encodeValue(currentLat - prevLat, sb);
+			encodeValue(currentLng - prevLng, sb);
+
+			prevLat = currentLat;
+			prevLng = currentLng;
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 디코딩 결과: {lat, lng} 배열 리스트
+	 */
+	public static List<double[]> decode(String encoded) {
+		List<double[]> points = new ArrayList<>();
+		int[] index = {0};
+		long lat = 0;
+		long lng = 0;
+
+		while (index[0] < encoded.length()) {
+			lat += decodeValue(encoded, index);
+			lng += decodeValue(encoded, index);
+			points.add(new double[] {lat / PRECISION, lng / PRECISION});
+		}
+		return points;
+	}
+
+	private static void encodeValue(long value, StringBuilder sb) {
+		// 부호 비트를 최하위로 (음수는 비트 반전)
+		long v = value < 0 ? ~(value << 1) : value << 1;
+		while (v >= 0x20) {
+			sb.append((char)((0x20 | (v & 0x1f)) + 63));
+			v >>= 5;
+		}
+		sb.append((char)(v + 63));
+	}
+
+	private static long decodeValue(String encoded, int[] index) {
+		long result = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = encoded.charAt(index[0]++) - 63;
+			result |= (long)(b & 0x1f) << shift;
+			shift += 5;
+		} while (b >= 0x20);
+		return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+	}
+}
@@ -0,0 +1,130 @@
+package com.eum.eum.common.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 경로 단순화 (Douglas–Peucker)
+ * 각 지점의 "중요도"(DP에서 선택될 때의 최대 편차, 부모 구간 값으로 상한)를 한 번 계산한 뒤
+ * - toleranceMeters: 중요도가 허용 오차보다 큰 지점만 유지
+ * - maxPoints: 중요도 상위 N개만 유지
+ * 두 조건을 동시에 줄 수 있고, 시작/끝 지점은 항상 유지한다
+ */
+public class RouteSimplifier {
+	private static final double METERS_PER_DEGREE = 111_320.0;
+
+	private RouteSimplifier() {
+	}
+
+	/**
+	 * @param toleranceMeters 허용 오차(미터), null 또는 0 이하면 미적용
+	 * @param maxPoints       최대 지점 수, null 또는 0 이하면 미적용 (2 미만은 2로 취급)
+	 */
+	public static <T> List<T> simplify(List<T> points, ToDoubleFunction<T> lat, ToDoubleFunction<T> lng,
+		Double toleranceMeters, Integer maxPoints) {
+		int n = points.size();
+		if (n <= 2) {
+			return new ArrayList<>(points);
+		}
+
+		double[] importance = importance(points, lat, lng);
+		double tolerance = toleranceMeters != null && toleranceMeters > 0 ? toleranceMeters : 0;
+
+		// 허용 오차를 넘는 지점을 중요도 내림차순으로 정렬
+		Integer[] candidates = IntStream.range(0, n)
+			.filter(i -> importance[i] > tolerance)
+			.boxed()
+			.toArray(Integer[]::new);
+		Arrays.sort(candidates, Comparator.comparingDouble((Integer i) -> importance[i]).reversed());
+
+		int budget = candidates.length;
+		if (maxPoints != null && maxPoints > 0) {
+			budget = Math.min(budget, Math.max(maxPoints, 2));
+		}
+
+		boolean[] keep = new boolean[n];
+		for (int k = 0; k < budget; k++) {
+			keep[candidates[k]] = true;
+		}
+
+		List<T> result = new ArrayList<>(budget);
+		for (int i = 0; i < n; i++) {
+			if (keep[i]) {
+				result.add(points.get(i));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 지점별 중요도 계산 (재귀 대신 스택 사용 - 긴 경로에서 StackOverflow 방지)
+	 * 시작/끝 지점은 무한대
+	 */
+	static <T> double[] importance(List<T> points, ToDoubleFunction<T> lat, ToDoubleFunction<T> lng) {
+		int n = points.size();
+		double[] x = new double[n];
+		double[] y = new double[n];
+
+		// 첫 지점 기준 평면 좌표(미터)로 변환 (equirectangular, 도시 규모에서 충분한 정확도)
+		double originLat = lat.applyAsDouble(points.getFirst());
+		double originLng = lng.applyAsDouble(points.getFirst());
+		double cosLat = Math.cos(Math.toRadians(originLat));
+		for (int i = 0; i < n; i++) {
+			T p = points.get(i);
+			x[i] = (lng.applyAsDouble(p) - originLng) * METERS_PER_DEGREE * cosLat;
+			y[i] = (lat.applyAsDouble(p) - originLat) * METERS_PER_DEGREE;
+		}
+
+		double[] importance = new double[n];
+		importance[0] = Double.POSITIVE_INFINITY;
+		importance[n - 1] = Double.POSITIVE_INFINITY;
+
+		// {start, end, 부모 중요도}
+		Deque<double[]> stack = new ArrayDeque<>();
+		stack.push(new double[] {0, n - 1, Double.POSITIVE_INFINITY});
+
+		while (!stack.isEmpty()) {
+			double[] segment = stack.pop();
+			int start = (int)segment[0];
+			int end = (int)segment[1];
+			if (end - start < 2) {
+				continue;
+			}
+
+			int farthest = -1;
+			double maxDistance = -1;
+			for (int i = start + 1; i < end; i++) {
+				double d = distanceToSegment(x[i], y[i], x[start], y[start], x[end], y[end]);
+				if (d > maxDistance) {
+					maxDistance = d;
+					farthest = i;
+				}
+			}
+
+			// 자식 지점이 부모보다 중요해지지 않도록 상한 -> 허용 오차 기준 선택이 DP 결과와 일치
+			double value = Math.min(maxDistance, segment[2]);
+			importance[farthest] = value;
+			stack.push(new double[] {start, farthest, value});
+			stack.push(new double[] {farthest, end, value});
+		}
+		return importance;
+	}
+
+	private static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double lengthSq = dx * dx + dy * dy;
+		if (lengthSq == 0) {
+			return Math.hypot(px - ax, py - ay);
+		}
+		double t = ((px - ax) * dx + (py - ay) * dy) / lengthSq;
+		t = Math.max(0, Math.min(1, t));
+		return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+	}
+}
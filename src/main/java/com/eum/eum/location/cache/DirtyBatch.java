@@ -0,0 +1,17 @@
+package com.eum.eum.location.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치가 처리 중인 dirty 목록 (처리 중 set으로 옮겨진 사용자)
+ * 처리 후 completeDirty, 실패 시 releaseDirty로 반드시 돌려줘야 다음 배치가 진행된다
+ * @param token            처리 잠금 토큰 (잠금 만료 후 다른 노드가 가져간 목록을 지우지 않도록)
+ * @param userIdsByMeeting meetingId -> userIds
+ */
+public record DirtyBatch(String token, Map<Long, List<Long>> userIdsByMeeting) {
+
+	public boolean isEmpty() {
+		return userIdsByMeeting.isEmpty();
+	}
+}
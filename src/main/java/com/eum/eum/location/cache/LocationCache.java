@@ -4,8 +4,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
-import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
-
 /**
  * 위치 정보 Write-Behind Cache
  * 실시간 위치 업데이트를 Redis에 저장하고, 주기적으로 DB에 동기화
@@ -23,9 +21,24 @@ import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
  *   - 성능: DB 쓰기 최소화 (Redis로 대체)
  *   - 히스토리: 30초 주기 DB 저장으로 이동 경로 추적
  *    주의: Redis는 최신 상태만 관리하는 휘발성 저장소입니다. 과거 위치 조회는 DB에서 해야 합니다.
+ * 변경 추적(dirty set)
+ * - saveLatest 시 (meetingId, userId)를 dirty set에 등록
+ * - 배치는 전체 키를 SCAN하지 않고 dirty set만 비워서 처리 → 비용이 "변경된 사용자 수"에 비례
+ * 배치 워터마크(lastBatchInsertAt)
+ * - 위치 데이터와 분리된 키에 저장하므로 saveLatest는 기존 값을 조회하지 않는다 (Redis 1회 왕복)
+ * - 배치 조회 시 위치와 워터마크를 합쳐서 반환
+ * 제자리 위치
+ * - 기준 거리 미만의 흔들림은 LocationIngestFilter에서 걸러지고, 주기적으로 touch(TTL 연장)만 한다
+ * 공간 조회(GEO)
+ * - 기본(location.geo-index.enabled=false)은 미팅 위치 해시를 읽어 haversine 거리로 반경/최근접 계산
+ * - 켜면 위치 해시와 별도로 미팅별 GEO 인덱스를 같이 유지 (저장 시 GEOADD, 삭제 시 ZREM)하고 GEOSEARCH로 조회
+ * - GEO 범위(위도 ±85.05) 밖의 좌표는 인덱싱하지 않는다
+ * 위치 버전
+ * - 저장/삭제마다 미팅 버전이 증가하고 사용자별 마지막 변경 버전을 기록
+ * - 재접속한 클라이언트는 마지막으로 받은 버전 이후 변경분만 받는다 (getChangesSince)
  */
 public interface LocationCache<E> {
-	// 최신 위치 관리
+	// 최신 위치 관리 (배치 워터마크는 유지됨)
 	void saveLatest(Long meetingId, Long userId, E location);
 
 	E getLatest(Long meetingId, Long userId);
@@ -35,10 +48,30 @@ public interface LocationCache<E> {
 
 	void remove(Long meetingId, Long userId);
 
-	// 모든 미팅의 모든 위치 (30초마다 DB 저장용)
-	Map<Long, List<E>> getAllLatestGroupedByMeeting();
+	// 위치 변경 없이 TTL만 연장 (제자리에 있는 사용자), 사용자 위치가 이미 없으면 false
+	boolean touch(Long meetingId, Long userId);
+
+	// 기준 좌표로부터 반경 안의 참여자 (가까운 순)
+	List<NearbyUser> findWithinRadius(Long meetingId, double lat, double lng, double radiusMeters);
+
+	// 기준 좌표에서 가장 가까운 참여자 count명 (가까운 순)
+	List<NearbyUser> findNearest(Long meetingId, double lat, double lng, int count);
+
+	// sinceVersion 이후 변경분 (조건에 따라 전체 스냅샷)
+	LocationSnapshot<E> getChangesSince(Long meetingId, Long sinceVersion);
+
+	// 마지막 배치 이후 위치가 바뀐 사용자 목록을 처리 중으로 옮겨 조회 (다른 노드가 처리 중이면 null)
+	DirtyBatch drainDirty();
+
+	// 배치 성공 - 처리 중 목록 삭제 + 잠금 해제
+	void completeDirty(DirtyBatch batch);
+
+	// 배치 실패 - 잠금만 해제 (처리 중 목록은 다음 주기에 다시 처리)
+	void releaseDirty(DirtyBatch batch);
 
-	List<LocationRedisEntity> getAllLatest();
+	// 지정한 사용자들의 최신 위치 (30초마다 DB 저장용, 워터마크 포함)
+	Map<Long, List<E>> getLatestGroupedByMeeting(Map<Long, List<Long>> userIdsByMeeting);
 
-	void updateLastBatchTime(Long meetingId, Long userId, LocalDateTime batchInsertAt);
+	// 배치 성공한 사용자들의 워터마크 일괄 갱신 (meetingId -> userIds)
+	void updateLastBatchTimes(Map<Long, List<Long>> userIdsByMeeting, LocalDateTime batchInsertAt);
 }
@@ -3,16 +3,33 @@ package com.eum.eum.location.cache;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
+import com.eum.eum.common.util.LocationUtil;
 import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +40,11 @@ import lombok.extern.slf4j.Slf4j;
 //     "user:2": {meetingUser:3, lat: 37.6, lng: 127.0, timestamp: 2026-01-15},
 //     "user:3": {meetingUser:4, lat: 37.7, lng: 127.1, timestamp: 2026-01-15}
 // }
+//location:batch:123 → { "user:1": "2026-01-15T10:00:00", ... }  (배치 워터마크, 문자열)
+//location:dirty → { "123:1", "123:2", ... }  (마지막 배치 이후 변경된 meetingId:userId)
+//location:dirty:processing → 배치가 처리 중인 dirty 목록 (성공 후 삭제), location:dirty:lock → 처리 잠금 토큰
+//location:geo:123 → GEO { "user:1": (lng, lat), ... }  (반경/최근접 조회용, location.geo-index.enabled=true 일 때만)
+//location:seq:123 → { "_base": 시작 버전, "_version": 현재 버전, "user:1": 변경 버전, "removed:4": 삭제 버전 }
 
 //todo override하지말고 전체 다 저장할지
 //현재 상태 : Write-behind Cache
@@ -30,10 +52,38 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class LocationRedisCache implements LocationCache<LocationRedisEntity> {
+	private static final Duration TTL = Duration.ofMinutes(LocationRedisEntity.TTL_MINUTES);
+	private static final int DRAIN_CHUNK_SIZE = 1000;
+	// 배치 처리 잠금 만료 (노드가 처리 도중 죽어도 이 시간 뒤 다른 노드가 이어서 처리)
+	private static final Duration DIRTY_LOCK_LEASE = Duration.ofMinutes(5);
+	// 최근접 조회용 반경 (지구 둘레의 절반 - 사실상 무제한)
+	private static final double NEAREST_SEARCH_RADIUS_METERS = 20_037_500;
+	// Redis GEO가 허용하는 위도 범위 (Web Mercator)
+	private static final double GEO_MAX_LAT = 85.05112878;
+
+	private static final RedisScript<Long> SAVE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/location_save.lua"), Long.class);
+	private static final RedisScript<Long> REMOVE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/location_remove.lua"), Long.class);
+	private static final RedisScript<Long> DIRTY_CLAIM_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/location_dirty_claim.lua"), Long.class);
+	private static final RedisScript<Long> DIRTY_RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/location_dirty_release.lua"), Long.class);
+	private static final RedisSerializer<Long> VERSION_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	// GEO 인덱스 유지 여부 - 끄면 위치 저장 시 GEOADD를 하지 않고 반경/최근접 조회는 위치 해시를 거리 계산
+	// 참여자가 많은 미팅에서 반경/최근접 조회가 잦을 때만 켠다
+	@Value("${location.geo-index.enabled:false}")
+	private boolean geoIndexEnabled;
 
 	/**
 	 * 위치 저장
+	 * 버전 증가 + HSET + EXPIRE + SADD(dirty) (+ GEOADD)를 Lua 스크립트로 묶어 Redis 1회 왕복으로 처리
+	 * GEO 인덱스가 꺼져 있거나 좌표가 GEO 범위 밖이면 좌표를 넘기지 않아 GEOADD를 건너뛴다
+	 * lastBatchInsertAt은 location:batch 키에 따로 있으므로 기존 값을 읽어올 필요가 없다
 	 */
 	@Override
 	public void saveLatest(
@@ -41,11 +91,31 @@ public class LocationRedisCache implements LocationCache<LocationRedisEntity> {
 		Long userId,
 		LocationRedisEntity entity) {
 
-		String redisKey = LocationRedisEntity.redisKey(meetingId);
-		String hashKey = LocationRedisEntity.hashKey(userId);
+		String meetingUserId = entity.getMeetingUserId() != null ? entity.getMeetingUserId().toString() : "";
+		boolean geo = geoIndexEnabled && isGeoIndexable(entity.getLat(), entity.getLng());
+		String lng = geo ? entity.getLng().toString() : "";
+		String lat = geo ? entity.getLat().toString() : "";
+
+		redisTemplate.execute(
+			SAVE_SCRIPT,
+			RedisSerializer.byteArray(),
+			VERSION_SERIALIZER,
+			List.of(LocationRedisEntity.redisKey(meetingId), LocationRedisEntity.seqKey(meetingId),
+				LocationRedisEntity.DIRTY_KEY, LocationRedisEntity.geoKey(meetingId)),
+			rawKey(LocationRedisEntity.hashKey(userId)),
+			rawValue(entity),
+			rawKey(String.valueOf(TTL.toSeconds())),
+			rawKey(LocationRedisEntity.dirtyMember(meetingId, userId)),
+			rawKey(String.valueOf(System.currentTimeMillis())),
+			rawKey(meetingUserId),
+			rawKey(lng),
+			rawKey(lat)
+		);
+	}
 
-		redisTemplate.opsForHash().put(redisKey, hashKey, entity);
-		redisTemplate.expire(redisKey, Duration.ofMinutes(3));
+	static boolean isGeoIndexable(Double lat, Double lng) {
+		return lat != null && lng != null
+			&& Math.abs(lat) <= GEO_MAX_LAT && Math.abs(lng) <= 180;
 	}
 
 	/**
@@ -86,88 +156,339 @@ public class LocationRedisCache implements LocationCache<LocationRedisEntity> {
 	}
 
 	/**
-	 * 특정 사용자 위치 삭제
+	 * 특정 사용자 위치 삭제 (버전 증가 + 삭제 기록 + GEO 인덱스 제거)
 	 */
 	@Override
 	public void remove(Long meetingId, Long userId) {
-		String redisKey = LocationRedisEntity.redisKey(meetingId);
-		String hashKey = LocationRedisEntity.hashKey(userId);
+		redisTemplate.execute(
+			REMOVE_SCRIPT,
+			RedisSerializer.byteArray(),
+			VERSION_SERIALIZER,
+			List.of(LocationRedisEntity.redisKey(meetingId), LocationRedisEntity.seqKey(meetingId),
+				LocationRedisEntity.geoKey(meetingId)),
+			rawKey(LocationRedisEntity.hashKey(userId)),
+			rawKey(String.valueOf(TTL.toSeconds())),
+			rawKey(String.valueOf(System.currentTimeMillis()))
+		);
+	}
 
-		redisTemplate.opsForHash().delete(redisKey, hashKey);
+	/**
+	 * TTL만 연장 (위치/버전/dirty 변경 없음)
+	 * 위치 키와 버전 키는 미팅 단위라 다른 참여자 위치가 있으면 이미 연장되고 있지만,
+	 * 미팅에 정지한 사용자만 남은 경우를 위해 두 키 모두 EXPIRE (파이프라인 1회)
+	 * 사용자 위치가 이미 지워졌으면(다른 노드에서 이전 세션 정리 등) false - 호출 측에서 다시 저장
+	 */
+	@Override
+	public boolean touch(Long meetingId, Long userId) {
+		List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) {
+				operations.opsForHash().hasKey(LocationRedisEntity.redisKey(meetingId),
+					LocationRedisEntity.hashKey(userId));
+				operations.expire(LocationRedisEntity.redisKey(meetingId), TTL);
+				operations.expire(LocationRedisEntity.seqKey(meetingId), TTL);
+				operations.expire(LocationRedisEntity.geoKey(meetingId), TTL);
+				return null;
+			}
+		});
+		return Boolean.TRUE.equals(results.get(0));
 	}
 
+	/**
+	 * 반경 조회 (GEOSEARCH BYRADIUS ... ASC)
+	 * 예: 목적지 좌표 + 도착 반경 → 도착 범위 안에 있는 참여자
+	 * GEO 인덱스가 꺼져 있으면 위치 해시 전체를 읽어 거리 계산
+	 */
 	@Override
-	public Map<Long, List<LocationRedisEntity>> getAllLatestGroupedByMeeting() {
-		Map<Long, List<LocationRedisEntity>> result = new HashMap<>();
+	public List<NearbyUser> findWithinRadius(Long meetingId, double lat, double lng, double radiusMeters) {
+		if (!geoIndexEnabled) {
+			return scanNearby(meetingId, lat, lng, radiusMeters, Integer.MAX_VALUE);
+		}
+		return geoSearch(meetingId, lat, lng, radiusMeters,
+			RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending());
+	}
 
-		ScanOptions options = ScanOptions.scanOptions()
-			.match("location:meeting:*")
-			.count(100)
-			.build();
+	/**
+	 * 최근접 조회 (GEOSEARCH BYRADIUS 지구 반 바퀴 COUNT n ASC)
+	 */
+	@Override
+	public List<NearbyUser> findNearest(Long meetingId, double lat, double lng, int count) {
+		if (!geoIndexEnabled) {
+			return scanNearby(meetingId, lat, lng, NEAREST_SEARCH_RADIUS_METERS, count);
+		}
+		return geoSearch(meetingId, lat, lng, NEAREST_SEARCH_RADIUS_METERS,
+			RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending().limit(count));
+	}
 
-		//! Redis의 SCAN 명령어는 Cursor 방식으로 동작
-		try (Cursor<byte[]> cursor = redisTemplate.executeWithStickyConnection(
-			(RedisCallback<Cursor<byte[]>>)connection -> connection.scan(options)
-		)) {
-			while (cursor.hasNext()) {
-				String redisKey = new String(cursor.next());
-				Long meetingId = Long.parseLong(redisKey.replace("location:meeting:", ""));
+	private List<NearbyUser> geoSearch(
+		Long meetingId,
+		double lat,
+		double lng,
+		double radiusMeters,
+		RedisGeoCommands.GeoSearchCommandArgs args
+	) {
+		GeoResults<RedisGeoCommands.GeoLocation<String>> results = stringRedisTemplate.opsForGeo().search(
+			LocationRedisEntity.geoKey(meetingId),
+			GeoReference.fromCoordinate(lng, lat),
+			new Distance(radiusMeters, Metrics.METERS),
+			args
+		);
+
+		if (results == null) {
+			return List.of();
+		}
+
+		List<NearbyUser> nearby = new ArrayList<>();
+		for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : results) {
+			nearby.add(new NearbyUser(
+				LocationRedisEntity.getIdFromHashKey(result.getContent().getName()),
+				result.getDistance().getValue()
+			));
+		}
+		return nearby;
+	}
 
-				Map<Object, Object> locations = redisTemplate.opsForHash().entries(redisKey);
+	// GEO 인덱스 없이 위치 해시(참여자 수만큼)를 읽어 가까운 순 정렬
+	private List<NearbyUser> scanNearby(Long meetingId, double lat, double lng, double radiusMeters, int limit) {
+		Map<Object, Object> locations = redisTemplate.opsForHash().entries(LocationRedisEntity.redisKey(meetingId));
 
-				List<LocationRedisEntity> entities = new ArrayList<>();
-				for (Map.Entry<Object, Object> entry : locations.entrySet()) {
-					LocationRedisEntity entity = (LocationRedisEntity)entry.getValue();
-					entities.add(entity);
+		List<NearbyUser> nearby = new ArrayList<>();
+		for (Map.Entry<Object, Object> entry : locations.entrySet()) {
+			LocationRedisEntity entity = (LocationRedisEntity)entry.getValue();
+			if (entity.getLat() == null || entity.getLng() == null) {
+				continue;
+			}
+			double distance = LocationUtil.haversine(lat, lng, entity.getLat(), entity.getLng());
+			if (distance <= radiusMeters) {
+				nearby.add(new NearbyUser(LocationRedisEntity.getIdFromHashKey((String)entry.getKey()), distance));
+			}
+		}
+		nearby.sort(Comparator.comparingDouble(NearbyUser::distanceMeters));
+		return nearby.size() > limit ? nearby.subList(0, limit) : nearby;
+	}
+
+	/**
+	 * sinceVersion 이후 변경분 조회
+	 * - 버전 해시(참여자 수만큼의 작은 해시) HGETALL 후 변경된 사용자만 HMGET
+	 * - sinceVersion이 없거나, 버전 키가 재생성됐거나(_base보다 작음), 변경분이 절반을 넘으면 전체 스냅샷
+	 */
+	@Override
+	public LocationSnapshot<LocationRedisEntity> getChangesSince(Long meetingId, Long sinceVersion) {
+		Map<Object, Object> seq = stringRedisTemplate.opsForHash().entries(LocationRedisEntity.seqKey(meetingId));
+		if (seq.isEmpty()) {
+			return new LocationSnapshot<>(0L, true, getAllByMeeting(meetingId), List.of());
+		}
+
+		long version = Long.parseLong((String)seq.get(LocationRedisEntity.SEQ_VERSION_FIELD));
+		long base = Long.parseLong((String)seq.get(LocationRedisEntity.SEQ_BASE_FIELD));
+
+		if (sinceVersion == null || sinceVersion < base || sinceVersion > version) {
+			return new LocationSnapshot<>(version, true, getAllByMeeting(meetingId), List.of());
+		}
+
+		List<Object> changedHashKeys = new ArrayList<>();
+		List<Long> removedMeetingUserIds = new ArrayList<>();
+		int userCount = 0;
+
+		for (Map.Entry<Object, Object> entry : seq.entrySet()) {
+			String field = (String)entry.getKey();
+			if (field.startsWith("_")) {
+				continue;
+			}
+
+			long changedAt = Long.parseLong((String)entry.getValue());
+			if (field.startsWith(LocationRedisEntity.SEQ_REMOVED_PREFIX + ":")) {
+				if (changedAt > sinceVersion) {
+					removedMeetingUserIds.add(LocationRedisEntity.getIdFromHashKey(field));
 				}
+				continue;
+			}
 
-				result.put(meetingId, entities);
+			userCount++;
+			if (changedAt > sinceVersion) {
+				changedHashKeys.add(field);
 			}
 		}
 
-		return result;
+		// 변경분이 대부분이면 전체를 보내는 편이 단순하고 크기도 비슷
+		if (changedHashKeys.size() * 2 > userCount) {
+			return new LocationSnapshot<>(version, true, getAllByMeeting(meetingId), List.of());
+		}
+
+		List<LocationRedisEntity> changed = new ArrayList<>();
+		if (!changedHashKeys.isEmpty()) {
+			String redisKey = LocationRedisEntity.redisKey(meetingId);
+			for (Object raw : redisTemplate.opsForHash().multiGet(redisKey, changedHashKeys)) {
+				if (raw instanceof LocationRedisEntity entity) {
+					changed.add(entity);
+				}
+			}
+		}
+		return new LocationSnapshot<>(version, false, changed, removedMeetingUserIds);
 	}
 
+	/**
+	 * dirty set을 처리 중 set으로 옮겨 조회 (Lua - 잠금 획득 + SUNIONSTORE + DEL)
+	 * 꺼내면서 지우지 않으므로 처리 도중 실패/종료돼도 목록이 남아 다음 배치에서 다시 처리된다
+	 * 배치 도중 들어온 위치는 새 dirty set에 쌓여 다음 배치에서 처리된다
+	 */
 	@Override
-	public List<LocationRedisEntity> getAllLatest() {
-		List<LocationRedisEntity> result = new ArrayList<>();
+	public DirtyBatch drainDirty() {
+		String token = UUID.randomUUID().toString();
+		Long size = stringRedisTemplate.execute(
+			DIRTY_CLAIM_SCRIPT,
+			List.of(LocationRedisEntity.DIRTY_KEY, LocationRedisEntity.DIRTY_PROCESSING_KEY,
+				LocationRedisEntity.DIRTY_LOCK_KEY),
+			token,
+			String.valueOf(DIRTY_LOCK_LEASE.toMillis())
+		);
+		if (size == null || size < 0) {
+			return null;
+		}
 
-		ScanOptions options = ScanOptions.scanOptions()
-			.match("location:meeting:*")
-			.count(100)
-			.build();
+		Map<Long, List<Long>> result = new HashMap<>();
+		if (size == 0) {
+			return new DirtyBatch(token, result);
+		}
 
-		//! Redis의 SCAN 명령어는 Cursor 방식으로 동작
-		try (Cursor<byte[]> cursor = redisTemplate.executeWithStickyConnection(
-			(RedisCallback<Cursor<byte[]>>)connection -> connection.scan(options)
-		)) {
+		ScanOptions options = ScanOptions.scanOptions().count(DRAIN_CHUNK_SIZE).build();
+		try (Cursor<String> cursor = stringRedisTemplate.opsForSet()
+			.scan(LocationRedisEntity.DIRTY_PROCESSING_KEY, options)) {
 			while (cursor.hasNext()) {
-				String redisKey = new String(cursor.next());
+				String[] ids = cursor.next().split(":");
+				result.computeIfAbsent(Long.parseLong(ids[0]), k -> new ArrayList<>())
+					.add(Long.parseLong(ids[1]));
+			}
+		}
+		return new DirtyBatch(token, result);
+	}
+
+	@Override
+	public void completeDirty(DirtyBatch batch) {
+		releaseDirtyLock(batch, true);
+	}
+
+	@Override
+	public void releaseDirty(DirtyBatch batch) {
+		releaseDirtyLock(batch, false);
+	}
 
-				Map<Object, Object> locations = redisTemplate.opsForHash().entries(redisKey);
+	private void releaseDirtyLock(DirtyBatch batch, boolean processed) {
+		stringRedisTemplate.execute(
+			DIRTY_RELEASE_SCRIPT,
+			List.of(LocationRedisEntity.DIRTY_PROCESSING_KEY, LocationRedisEntity.DIRTY_LOCK_KEY),
+			batch.token(),
+			processed ? "1" : "0"
+		);
+	}
 
-				for (Map.Entry<Object, Object> entry : locations.entrySet()) {
-					LocationRedisEntity entity = (LocationRedisEntity)entry.getValue();
-					result.add(entity);
+	/**
+	 * 변경된 사용자들의 위치 + 워터마크 조회
+	 * 미팅 수와 관계없이 위치(HMGET) 파이프라인 1회 + 워터마크(HMGET) 파이프라인 1회
+	 */
+	@Override
+	public Map<Long, List<LocationRedisEntity>> getLatestGroupedByMeeting(Map<Long, List<Long>> userIdsByMeeting) {
+		List<Long> meetingIds = new ArrayList<>(userIdsByMeeting.keySet());
+
+		List<Object> locationResults = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) {
+				for (Long meetingId : meetingIds) {
+					operations.opsForHash().multiGet(
+						LocationRedisEntity.redisKey(meetingId), hashKeys(userIdsByMeeting.get(meetingId)));
 				}
+				return null;
+			}
+		});
+
+		List<Object> watermarkResults = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) {
+				for (Long meetingId : meetingIds) {
+					operations.opsForHash().multiGet(
+						LocationRedisEntity.batchKey(meetingId), hashKeys(userIdsByMeeting.get(meetingId)));
+				}
+				return null;
+			}
+		});
+
+		Map<Long, List<LocationRedisEntity>> result = new HashMap<>();
+		for (int i = 0; i < meetingIds.size(); i++) {
+			List<?> locations = (List<?>)locationResults.get(i);
+			List<?> watermarks = (List<?>)watermarkResults.get(i);
+
+			List<LocationRedisEntity> entities = new ArrayList<>();
+			for (int j = 0; j < locations.size(); j++) {
+				// dirty 등록 이후 연결 종료/TTL 만료로 사라진 위치는 skip
+				if (locations.get(j) instanceof LocationRedisEntity entity) {
+					applyWatermark(entity, watermarks.get(j));
+					entities.add(entity);
+				}
+			}
+
+			if (!entities.isEmpty()) {
+				result.put(meetingIds.get(i), entities);
 			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * 배치 커밋 후 워터마크 일괄 갱신
+	 * 워터마크 필드만 HSET(미팅당 1회) + EXPIRE, 전체를 파이프라인 1회로 전송
+	 */
 	@Override
-	public void updateLastBatchTime(Long meetingId, Long userId, LocalDateTime batchInsertAt) {
-		String redisKey = LocationRedisEntity.redisKey(meetingId);
-		String hashKey = LocationRedisEntity.hashKey(userId);
-		// 기존 데이터 조회
-		LocationRedisEntity entity = getLatest(meetingId, userId);
+	public void updateLastBatchTimes(Map<Long, List<Long>> userIdsByMeeting, LocalDateTime batchInsertAt) {
+		String watermark = batchInsertAt.toString();
+
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) {
+				for (Map.Entry<Long, List<Long>> entry : userIdsByMeeting.entrySet()) {
+					String batchKey = LocationRedisEntity.batchKey(entry.getKey());
+
+					Map<String, String> watermarks = new HashMap<>();
+					for (Long userId : entry.getValue()) {
+						watermarks.put(LocationRedisEntity.hashKey(userId), watermark);
+					}
+
+					operations.opsForHash().putAll(batchKey, watermarks);
+					operations.expire(batchKey, TTL);
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 워터마크 키에 값이 있으면 그 값을 우선 사용
+	 * (없으면 이전 형식처럼 위치 데이터에 함께 저장된 값을 그대로 둔다)
+	 */
+	private void applyWatermark(LocationRedisEntity entity, Object watermark) {
+		if (watermark != null) {
+			entity.updateLastBatchInsertAt(LocalDateTime.parse(watermark.toString()));
+		}
+	}
 
-		if (entity != null) {
-			// lastBatchInsertAt만 업데이트
-			entity.updateLastBatchInsertAt(batchInsertAt);
-			redisTemplate.opsForHash().put(redisKey, hashKey, entity);
+	private List<Object> hashKeys(List<Long> userIds) {
+		List<Object> hashKeys = new ArrayList<>(userIds.size());
+		for (Long userId : userIds) {
+			hashKeys.add(LocationRedisEntity.hashKey(userId));
 		}
+		return hashKeys;
 	}
 
+	private byte[] rawKey(String key) {
+		return StringRedisSerializer.UTF_8.serialize(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawValue(Object value) {
+		return ((RedisSerializer<Object>)redisTemplate.getHashValueSerializer()).serialize(value);
+	}
 }
@@ -0,0 +1,13 @@
+package com.eum.eum.location.cache;
+
+import java.util.List;
+
+/**
+ * 미팅 위치 스냅샷
+ * @param version               이 스냅샷 시점의 미팅 위치 버전 (클라이언트가 다음 요청에 sinceVersion으로 보냄)
+ * @param full                  true면 전체 목록, false면 sinceVersion 이후 변경분만
+ * @param locations             (변경된) 위치
+ * @param removedMeetingUserIds sinceVersion 이후 위치가 삭제된 참여자 (full이면 비어 있음)
+ */
+public record LocationSnapshot<E>(long version, boolean full, List<E> locations, List<Long> removedMeetingUserIds) {
+}
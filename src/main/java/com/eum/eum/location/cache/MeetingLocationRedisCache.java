@@ -2,30 +2,89 @@ package com.eum.eum.location.cache;
 
 import java.time.Duration;
 
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.eum.eum.location.domain.entity.redis.MeetingLocationRedisEntity;
 import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.eum.eum.meeting.event.MeetingLocationChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 약속 목적지 캐시 (L1: 로컬 Caffeine → L2: Redis → DB)
+ * 위치 전송마다 목적지 좌표가 필요하므로 대부분 L1 메모리 조회로 끝난다
+ * 목적지가 바뀌면 MeetingLocationChangedEvent(커밋 후) 시 L2 삭제 + Redis Pub/Sub으로 모든 노드의 L1 무효화
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class MeetingLocationRedisCache {
+public class MeetingLocationRedisCache implements MessageListener {
+	public static final String EVICT_CHANNEL = "meeting-location:evict";
+
+	private static final int LOCAL_MAX_SIZE = 10_000;
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+
 	private final RedisTemplate<String, Object> redisTemplate;
 	private final MeetingRepository meetingRepository;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MeterRegistry meterRegistry;
+
+	// L1 미스 후 어디서 찾았는지 (redis: L2 히트, db: L2 미스)
+	private Counter redisHitCounter;
+	private Counter dbLoadCounter;
+
+	private final Cache<Long, MeetingLocationRedisEntity> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_MAX_SIZE)
+		.expireAfterWrite(LOCAL_TTL)
+		.recordStats()
+		.build();
+
+	@PostConstruct
+	void subscribeEvict() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+	}
+
+	// L1 히트/미스는 Caffeine 통계(cache_gets 등), L2는 카운터
+	@PostConstruct
+	void bindMetrics() {
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "meetingLocation");
+		redisHitCounter = Counter.builder("eum.meeting.location.load").tag("source", "redis").register(meterRegistry);
+		dbLoadCounter = Counter.builder("eum.meeting.location.load").tag("source", "db").register(meterRegistry);
+	}
 
 	public MeetingLocationRedisEntity getOrLoad(Long meetingId) {
+		// 0. 로컬 캐시 조회 (역직렬화, 네트워크 없음)
+		// 미스 시 적재까지 원자적으로 수행 - 적재 도중 무효화되면 이전 값을 다시 넣지 않음
+		return localCache.get(meetingId, this::loadFromRedisOrDb);
+	}
+
+	private MeetingLocationRedisEntity loadFromRedisOrDb(Long meetingId) {
 		String key = MeetingLocationRedisEntity.redisKey(meetingId);
 
 		// 1. Redis에서 먼저 조회
 		MeetingLocationRedisEntity cached = (MeetingLocationRedisEntity)redisTemplate.opsForValue().get(key);
 
 		if (cached != null) {
+			redisHitCounter.increment();
 			return cached; // 캐시 히트!
 		}
 
+		dbLoadCounter.increment();
+
 		// 2. 캐시에 없으면(Miss) DB 조회 (Lazy Loading)
 		// 이 부분에서 DB에 접근합니다.
 		return meetingRepository.findById(meetingId)
@@ -42,9 +101,30 @@ public class MeetingLocationRedisCache {
 			.orElseThrow(() -> new RuntimeException("회의 정보를 찾을 수 없습니다."));
 	}
 
-	// 3. 목적지 캐시 삭제 (회의 장소가 수정될 경우 호출)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMeetingLocationChanged(MeetingLocationChangedEvent event) {
+		evict(event.getMeetingId());
+	}
+
+	// 3. 목적지 캐시 삭제 (회의 장소가 수정되어 커밋된 뒤 호출)
 	public void evict(Long meetingId) {
 		String key = MeetingLocationRedisEntity.redisKey(meetingId);
 		redisTemplate.delete(key);
+		localCache.invalidate(meetingId);
+
+		// 다른 노드의 로컬 캐시도 무효화
+		redisTemplate.convertAndSend(EVICT_CHANNEL, meetingId);
+	}
+
+	/**
+	 * 다른 노드에서 발행한 무효화 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+		if (payload instanceof Number meetingId) {
+			localCache.invalidate(meetingId.longValue());
+			log.debug("목적지 로컬 캐시 무효화 - meetingId: {}", meetingId);
+		}
 	}
 }
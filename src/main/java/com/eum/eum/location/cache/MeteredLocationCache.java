@@ -0,0 +1,152 @@
+package com.eum.eum.location.cache;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * LocationCache 메서드별 Redis 지연 시간 측정 (eum.location.cache{op=...})
+ * 타이머는 생성 시 한 번만 등록해 두고 호출마다 nanoTime 차이만 기록 (호출당 할당 없음)
+ * LocationCache를 주입받는 곳은 모두 이 빈을 사용 (@Primary)
+ */
+@Primary
+@Component
+public class MeteredLocationCache implements LocationCache<LocationRedisEntity> {
+
+	enum Op {
+		SAVE_LATEST, GET_LATEST, GET_ALL_BY_MEETING, REMOVE, TOUCH, FIND_WITHIN_RADIUS, FIND_NEAREST,
+		GET_CHANGES_SINCE, DRAIN_DIRTY, COMPLETE_DIRTY, RELEASE_DIRTY, GET_LATEST_GROUPED, UPDATE_LAST_BATCH_TIMES;
+
+		String tag() {
+			return name().toLowerCase();
+		}
+	}
+
+	private final LocationRedisCache delegate;
+	private final Map<Op, Timer> timers = new EnumMap<>(Op.class);
+
+	public MeteredLocationCache(LocationRedisCache delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		for (Op op : Op.values()) {
+			timers.put(op, Timer.builder("eum.location.cache")
+				.description("LocationCache(Redis) 호출 지연")
+				.tag("op", op.tag())
+				.register(meterRegistry));
+		}
+	}
+
+	@Override
+	public void saveLatest(Long meetingId, Long userId, LocationRedisEntity location) {
+		long start = System.nanoTime();
+		try {
+			delegate.saveLatest(meetingId, userId, location);
+		} finally {
+			record(Op.SAVE_LATEST, start);
+		}
+	}
+
+	@Override
+	public LocationRedisEntity getLatest(Long meetingId, Long userId) {
+		return timed(Op.GET_LATEST, () -> delegate.getLatest(meetingId, userId));
+	}
+
+	@Override
+	public List<LocationRedisEntity> getAllByMeeting(Long meetingId) {
+		return timed(Op.GET_ALL_BY_MEETING, () -> delegate.getAllByMeeting(meetingId));
+	}
+
+	@Override
+	public void remove(Long meetingId, Long userId) {
+		long start = System.nanoTime();
+		try {
+			delegate.remove(meetingId, userId);
+		} finally {
+			record(Op.REMOVE, start);
+		}
+	}
+
+	@Override
+	public boolean touch(Long meetingId, Long userId) {
+		return timed(Op.TOUCH, () -> delegate.touch(meetingId, userId));
+	}
+
+	@Override
+	public List<NearbyUser> findWithinRadius(Long meetingId, double lat, double lng, double radiusMeters) {
+		return timed(Op.FIND_WITHIN_RADIUS, () -> delegate.findWithinRadius(meetingId, lat, lng, radiusMeters));
+	}
+
+	@Override
+	public List<NearbyUser> findNearest(Long meetingId, double lat, double lng, int count) {
+		return timed(Op.FIND_NEAREST, () -> delegate.findNearest(meetingId, lat, lng, count));
+	}
+
+	@Override
+	public LocationSnapshot<LocationRedisEntity> getChangesSince(Long meetingId, Long sinceVersion) {
+		return timed(Op.GET_CHANGES_SINCE, () -> delegate.getChangesSince(meetingId, sinceVersion));
+	}
+
+	@Override
+	public DirtyBatch drainDirty() {
+		return timed(Op.DRAIN_DIRTY, delegate::drainDirty);
+	}
+
+	@Override
+	public void completeDirty(DirtyBatch batch) {
+		long start = System.nanoTime();
+		try {
+			delegate.completeDirty(batch);
+		} finally {
+			record(Op.COMPLETE_DIRTY, start);
+		}
+	}
+
+	@Override
+	public void releaseDirty(DirtyBatch batch) {
+		long start = System.nanoTime();
+		try {
+			delegate.releaseDirty(batch);
+		} finally {
+			record(Op.RELEASE_DIRTY, start);
+		}
+	}
+
+	@Override
+	public Map<Long, List<LocationRedisEntity>> getLatestGroupedByMeeting(Map<Long, List<Long>> userIdsByMeeting) {
+		return timed(Op.GET_LATEST_GROUPED, () -> delegate.getLatestGroupedByMeeting(userIdsByMeeting));
+	}
+
+	@Override
+	public void updateLastBatchTimes(Map<Long, List<Long>> userIdsByMeeting, LocalDateTime batchInsertAt) {
+		long start = System.nanoTime();
+		try {
+			delegate.updateLastBatchTimes(userIdsByMeeting, batchInsertAt);
+		} finally {
+			record(Op.UPDATE_LAST_BATCH_TIMES, start);
+		}
+	}
+
+	// 조회 계열은 빈도가 낮아 람다 캡처 할당을 허용, 위치 저장/삭제/TTL 연장(핫 패스)은 직접 측정
+	private <T> T timed(Op op, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} finally {
+			record(op, start);
+		}
+	}
+
+	private void record(Op op, long start) {
+		timers.get(op).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+}
@@ -0,0 +1,96 @@
+package com.eum.eum.location.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+import com.eum.eum.meeting.event.MovementStatusChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 참여자 이동 상태 로컬 캐시 ((meetingId, userId) -> MovementStatus)
+ * 도착 범위 안에서 위치를 보낼 때마다 DB에서 "이미 도착했는지" 확인하지 않도록 사용
+ * - MovementStatusChangedEvent(커밋 후)로 갱신하고, Redis Pub/Sub으로 다른 노드에도 전파
+ * - 캐시에 없으면 모름(null) → 호출 측에서 DB로 확인 후 put
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovementStatusCache implements MessageListener {
+	public static final String CHANNEL = "movement-status:changed";
+
+	private static final int LOCAL_MAX_SIZE = 100_000;
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(30);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final Cache<String, MovementStatus> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_MAX_SIZE)
+		.expireAfterWrite(LOCAL_TTL)
+		.build();
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	public MovementStatus get(Long meetingId, Long userId) {
+		return localCache.getIfPresent(key(meetingId, userId));
+	}
+
+	public boolean isArrived(Long meetingId, Long userId) {
+		return get(meetingId, userId) == MovementStatus.ARRIVED;
+	}
+
+	public void put(Long meetingId, Long userId, MovementStatus status) {
+		localCache.put(key(meetingId, userId), status);
+	}
+
+	/**
+	 * 상태 변경이 커밋된 뒤 반영 (롤백된 변경이 캐시에 남지 않도록)
+	 * 이 노드는 바로 갱신하고, 다른 노드에는 "meetingId:userId:STATUS"로 전파
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleMovementStatusChanged(MovementStatusChangedEvent event) {
+		put(event.getMeetingId(), event.getUserId(), event.getMovementStatus());
+
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL,
+				key(event.getMeetingId(), event.getUserId()) + ":" + event.getMovementStatus().name());
+		} catch (Exception e) {
+			// 전파 실패 시 다른 노드는 TTL 만료 후 DB에서 다시 확인
+			log.warn("이동 상태 전파 실패 - meetingId: {}, userId: {}", event.getMeetingId(), event.getUserId(), e);
+		}
+	}
+
+	/**
+	 * 다른 노드(또는 자신)에서 발행한 상태 변경 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+		if (parts.length != 3) {
+			return;
+		}
+		localCache.put(parts[0] + ":" + parts[1], MovementStatus.valueOf(parts[2]));
+	}
+
+	private static String key(Long meetingId, Long userId) {
+		return meetingId + ":" + userId;
+	}
+}
@@ -0,0 +1,9 @@
+package com.eum.eum.location.cache;
+
+/**
+ * GEO 조회 결과
+ * @param userId         참여자 userId
+ * @param distanceMeters 기준 좌표로부터의 거리 (미터)
+ */
+public record NearbyUser(Long userId, double distanceMeters) {
+}
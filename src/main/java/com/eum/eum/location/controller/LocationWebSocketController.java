@@ -1,12 +1,16 @@
 package com.eum.eum.location.controller;
 
 import java.security.Principal;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
@@ -14,53 +18,108 @@ import org.springframework.stereotype.Controller;
 
 import com.eum.eum.location.dto.EmojiRequestDto;
 import com.eum.eum.location.dto.EmojiResponseDto;
+import com.eum.eum.location.dto.LocationInitRequestDto;
 import com.eum.eum.location.dto.LocationRequestDto;
 import com.eum.eum.location.dto.LocationResponseDto;
 import com.eum.eum.location.dto.PokeRequestDto;
 import com.eum.eum.location.dto.PokeResponseDto;
+import com.eum.eum.location.service.LocationBroadcaster;
+import com.eum.eum.location.service.LocationIngestFilter;
 import com.eum.eum.location.service.LocationSharingService;
 import com.eum.eum.meeting.event.FcmPushEvent;
 import com.eum.eum.user.domain.entity.User;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Controller
-@RequiredArgsConstructor
 public class LocationWebSocketController {
 	private final LocationSharingService locationSharingService;
+	private final LocationBroadcaster locationBroadcaster;
+	private final LocationIngestFilter locationIngestFilter;
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ApplicationEventPublisher eventPublisher;
 
+	// 위치 수신 처리 시간 (필터 결과별, 미리 등록해 두고 호출마다 기록만)
+	private final Map<LocationIngestFilter.Decision, Timer> pubLocationTimers =
+		new EnumMap<>(LocationIngestFilter.Decision.class);
+
+	public LocationWebSocketController(
+		LocationSharingService locationSharingService,
+		LocationBroadcaster locationBroadcaster,
+		LocationIngestFilter locationIngestFilter,
+		SimpMessagingTemplate messagingTemplate,
+		ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry
+	) {
+		this.locationSharingService = locationSharingService;
+		this.locationBroadcaster = locationBroadcaster;
+		this.locationIngestFilter = locationIngestFilter;
+		this.messagingTemplate = messagingTemplate;
+		this.eventPublisher = eventPublisher;
+
+		for (LocationIngestFilter.Decision decision : LocationIngestFilter.Decision.values()) {
+			pubLocationTimers.put(decision, Timer.builder("eum.location.publish")
+				.description("위치 수신 처리 시간 (필터 + 저장 + 브로드캐스트 등록)")
+				.tag("decision", decision.name().toLowerCase())
+				.register(meterRegistry));
+		}
+	}
+
 	// 1. 실시간 위치 확인 버튼 클릭 ->
 	// 2. /pub/meeting/{meetingId}/init 현재 접속 정보 가져옴
 	// 3. /sub/meeting/{meetingId}/location 구독 : → 해당 약속의 모든 위치 업데이트를 수신
 
 	// 초기 접속 시 현재 접속중인 유저 정보 불러옴
+	// 재접속이면 마지막으로 받은 버전(sinceVersion) 이후 변경분만
 	@MessageMapping("/meeting/{meetingId}/init")
 	public void pubMovementStatus(
 		@DestinationVariable Long meetingId,
-		@Header("simpSessionId") String sessionId
+		@Header("simpSessionId") String sessionId,
+		@Payload(required = false) LocationInitRequestDto request
 	) {
+		Long sinceVersion = request != null ? request.sinceVersion() : null;
+
 		messagingTemplate.convertAndSendToUser(
 			sessionId,           // 이 sessionId 가진 사람만
 			"/sub/meeting/" + meetingId + "/location",
-			locationSharingService.getAllLocation(meetingId)
+			locationSharingService.getLocationSnapshot(meetingId, sinceVersion)
 		);
 	}
 
 	// 5초마다 위치 전송
+	// 의미 있는 이동만 저장 + 구독자들에게 브로드캐스트 (JSON / 압축 포맷 토픽 각각)
+	// 제자리 흔들림은 버리고, 주기적으로 TTL만 연장
 	@MessageMapping("/meeting/{meetingId}/meeting-user/{meetingUserId}/location")//클라이언트가 이 경로로 전송
-	@SendTo("/sub/meeting/{meetingId}/location") // 구독자들에게 브로드캐스트
-	public LocationResponseDto pubLocation(
+	public void pubLocation(
 		@DestinationVariable Long meetingId,
+		@Header("simpSessionId") String sessionId,
 		Principal principal,
 		LocationRequestDto request
 	) {
 		Authentication authentication = (Authentication)principal;
 		User user = (User)authentication.getPrincipal();
 		Long userId = user.getId();
+		long start = System.nanoTime();
+
+		LocationIngestFilter.Decision decision =
+			locationIngestFilter.evaluate(sessionId, meetingId, request.getLat(), request.getLng());
+		try {
+			// TTL 연장 대상 위치가 이미 지워졌으면 (다른 노드에서 이전 세션 정리 등) 다시 저장
+			if (decision == LocationIngestFilter.Decision.REFRESH_TTL
+				&& !locationSharingService.refreshLocation(userId, meetingId)) {
+				locationIngestFilter.markForwarded(sessionId, request.getLat(), request.getLng());
+				decision = LocationIngestFilter.Decision.FORWARD;
+			}
+			if (decision != LocationIngestFilter.Decision.FORWARD) {
+				return;
+			}
 
-		return locationSharingService.pubLocation(userId, meetingId, request);
+			LocationResponseDto location = locationSharingService.pubLocation(userId, meetingId, request);
+			locationBroadcaster.broadcast(meetingId, location);
+		} finally {
+			pubLocationTimers.get(decision).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
 	}
 
 	// 재촉/비난 (Poke)
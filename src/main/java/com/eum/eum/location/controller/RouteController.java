@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.eum.eum.location.dto.RouteResponseDto;
 import com.eum.eum.location.service.RouteService;
@@ -29,6 +31,8 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Route", description = "경로 API")
 public class RouteController {
 
+	private static final String FORMAT_POLYLINE = "polyline";
+
 	private final RouteService routeService;
 	private final RestTemplate restTemplate;
 
@@ -36,11 +40,34 @@ public class RouteController {
 	private String kakaoMobilityApiKey;
 
 	// 약속의 모든 참여자 경로 조회 (실시간 추적)
+	// tolerance(미터)/maxPoints 지정 시 Douglas–Peucker로 단순화된 경로
+	// format=polyline 이면 Encoded Polyline + 시간 delta 형식 (응답 크기 축소)
 	@GetMapping("/meetings/{meetingId}")
 	public ResponseEntity<List<RouteResponseDto>> getAllRoutes(
+		@PathVariable Long meetingId,
+		@RequestParam(required = false) Double tolerance,
+		@RequestParam(required = false) Integer maxPoints,
+		@RequestParam(required = false) String format
+	) {
+		List<RouteResponseDto> routes = routeService.getAllRoutesForMeeting(meetingId, tolerance, maxPoints);
+
+		if (FORMAT_POLYLINE.equalsIgnoreCase(format)) {
+			routes = routes.stream()
+				.map(RouteResponseDto::toPolyline)
+				.toList();
+		}
+		return ResponseEntity.ok(routes);
+	}
+
+	// 약속의 모든 참여자 경로 스트리밍 (NDJSON, 긴 경로용)
+	@GetMapping(value = "/meetings/{meetingId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "경로 스트리밍", description = "한 줄에 한 지점(meetingUserId, lat, lng, movedAt)씩 NDJSON으로 전송")
+	public ResponseEntity<StreamingResponseBody> streamAllRoutes(
 		@PathVariable Long meetingId
 	) {
-		return ResponseEntity.ok(routeService.getAllRoutesForMeeting(meetingId));
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(routeService.streamRoutesForMeeting(meetingId));
 	}
 
 	// Kakao Mobility 길찾기 API 프록시
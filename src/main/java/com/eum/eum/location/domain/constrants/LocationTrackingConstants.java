@@ -12,5 +12,6 @@ public final class LocationTrackingConstants {
 
 	// 시간 기준
 	public static final Duration PAUSE_THRESHOLD = Duration.ofMinutes(10); //이시간이상 움직임 없으면 정지
+	public static final Duration ROUTE_WINDOW = Duration.ofHours(24); //경로 조회 범위 (약속시간 ± 이 시간) -> 파티션 프루닝
 
 }
@@ -6,19 +6,31 @@ import com.eum.eum.common.domain.BaseEntity;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
 import com.eum.eum.meeting.domain.entity.MovementStatus;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 이동 경로 이력
+ * 운영(PostgreSQL)에서는 moved_at 기준 일 단위 파티션 테이블 (db/partition/location_history_partition.sql)
+ * meeting_id는 경로 조회 시 meeting_user 조인 없이 인덱스만 타도록 비정규화한 컬럼
+ * 경로 인덱스의 INCLUDE (lat, lng)는 JPA로 표현할 수 없어 파티션 스크립트에서만 생성 (여기서는 키 컬럼만)
+ * 컬럼 추가 전 이력의 meeting_id는 LocationHistoryMeetingIdBackfill이 채운다
+ */
 @Entity
+@Table(name = "location_history", indexes = {
+	@Index(name = "idx_location_history_route", columnList = "meeting_id, meeting_user_id, moved_at")})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -28,6 +40,9 @@ public class LocationHistory extends BaseEntity {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	@Column(name = "meeting_id")
+	private Long meetingId;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	private MeetingUser meetingUser;
 
@@ -43,6 +58,7 @@ public class LocationHistory extends BaseEntity {
 		LocalDateTime movedAt
 	) {
 		return LocationHistory.builder()
+			.meetingId(meetingUser.getMeeting().getId())
 			.meetingUser(meetingUser)
 			.location(new Location(lat, lng))
 			.movedAt(movedAt)
@@ -19,6 +19,20 @@ import lombok.NoArgsConstructor;
 public class LocationRedisEntity {
 
 	public static final String REDIS_KEY_PREFIX = "location:meeting";
+	// lastBatchInsertAt 워터마크는 위치 해시와 분리해서 관리 (위치 저장 시 기존 값 조회 불필요)
+	public static final String BATCH_KEY_PREFIX = "location:batch";
+	// 마지막 배치 이후 위치가 바뀐 (meetingId:userId) 목록 - 배치는 이 Set만 읽는다
+	public static final String DIRTY_KEY = "location:dirty";
+	// 배치가 처리 중인 dirty 목록 (성공 후 삭제) + 처리 잠금 (노드 하나만 처리)
+	public static final String DIRTY_PROCESSING_KEY = "location:dirty:processing";
+	public static final String DIRTY_LOCK_KEY = "location:dirty:lock";
+	// 미팅별 위치 버전 (재접속 시 변경분만 내려주기 위함)
+	public static final String SEQ_KEY_PREFIX = "location:seq";
+	public static final String SEQ_BASE_FIELD = "_base";
+	public static final String SEQ_VERSION_FIELD = "_version";
+	public static final String SEQ_REMOVED_PREFIX = "removed";
+	// 미팅별 GEO 인덱스 (member: user:{userId}) - 반경/최근접 조회를 Redis에서 처리
+	public static final String GEO_KEY_PREFIX = "location:geo";
 	public static final String HASH_KEY_PREFIX = "user";
 	public static final int TTL_MINUTES = 3;
 
@@ -33,6 +47,18 @@ public class LocationRedisEntity {
 		return REDIS_KEY_PREFIX + ":" + meetingId;
 	}
 
+	public static String batchKey(Long meetingId) {
+		return BATCH_KEY_PREFIX + ":" + meetingId;
+	}
+
+	public static String seqKey(Long meetingId) {
+		return SEQ_KEY_PREFIX + ":" + meetingId;
+	}
+
+	public static String geoKey(Long meetingId) {
+		return GEO_KEY_PREFIX + ":" + meetingId;
+	}
+
 	public static String hashKey(Long userId) {
 		return HASH_KEY_PREFIX + ":" + userId;
 	}
@@ -41,6 +67,10 @@ public class LocationRedisEntity {
 		return Long.parseLong(hashKey.split(":")[1]);
 	}
 
+	public static String dirtyMember(Long meetingId, Long userId) {
+		return meetingId + ":" + userId;
+	}
+
 	public static LocationRedisEntity create(
 		Long meetingUserId,
 		Double lat,
@@ -62,7 +92,7 @@ public class LocationRedisEntity {
 	 */
 	@JsonIgnore
 	public boolean checkAlreadyProcessed() {
-		return lastBatchInsertAt != null &&
+		return lastBatchInsertAt != null && movedAt != null &&
 			!movedAt.isAfter(lastBatchInsertAt);
 	}
 
@@ -0,0 +1,86 @@
+package com.eum.eum.location.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.eum.eum.common.domain.EntityStatus;
+import com.eum.eum.location.domain.entity.LocationHistory;
+import com.eum.eum.location.dto.RouteStreamPointDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LocationHistory 대량 저장/조회 전용 JDBC 리포지토리
+ * IDENTITY 전략에서는 Hibernate가 insert 배치를 끄기 때문에 saveAll()이 건당 INSERT가 된다
+ * 배치 스케줄러의 이력 저장은 JdbcTemplate.batchUpdate로 묶어서 보낸다
+ * (PostgreSQL은 reWriteBatchedInserts=true 설정 시 multi-row INSERT로 재작성됨)
+ * 경로 스트리밍은 커서(fetchSize)로 한 행씩 DTO로 넘겨 영속성 컨텍스트/전체 List를 만들지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationHistoryJdbcRepository {
+	private static final int BATCH_SIZE = 1000;
+	private static final int STREAM_FETCH_SIZE = 500;
+
+	private static final String INSERT_SQL =
+		"INSERT INTO location_history (meeting_id, meeting_user_id, lat, lng, moved_at, created_at, modified_at, status) " +
+			"VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String ROUTE_SQL =
+		"SELECT meeting_user_id, lat, lng, moved_at FROM location_history " +
+			"WHERE meeting_id = ? AND moved_at >= ? AND moved_at < ? " +
+			"ORDER BY meeting_user_id, moved_at";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 이력 일괄 저장 (영속성 컨텍스트를 거치지 않으므로 id/감사 필드는 엔티티에 채워지지 않는다)
+	 */
+	public void batchInsert(List<LocationHistory> histories) {
+		if (histories.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String status = EntityStatus.ACTIVE.name();
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, histories, BATCH_SIZE, (ps, history) -> {
+			ps.setLong(1, history.getMeetingId());
+			ps.setLong(2, history.getMeetingUser().getId());
+			ps.setDouble(3, history.getLocation().getLat());
+			ps.setDouble(4, history.getLocation().getLng());
+			ps.setTimestamp(5, Timestamp.valueOf(history.getMovedAt()));
+			ps.setTimestamp(6, now);
+			ps.setTimestamp(7, now);
+			ps.setString(8, status);
+		});
+	}
+
+	/**
+	 * 미팅 경로를 한 행씩 consumer로 전달
+	 * PostgreSQL은 autocommit=false일 때만 커서 fetch를 하므로 트랜잭션 안에서 호출해야 한다
+	 */
+	public void streamRoutes(Long meetingId, LocalDateTime from, LocalDateTime to,
+		Consumer<RouteStreamPointDto> consumer) {
+		jdbcTemplate.query(con -> {
+			var ps = con.prepareStatement(ROUTE_SQL);
+			ps.setFetchSize(STREAM_FETCH_SIZE);
+			ps.setLong(1, meetingId);
+			ps.setTimestamp(2, Timestamp.valueOf(from));
+			ps.setTimestamp(3, Timestamp.valueOf(to));
+			return ps;
+		}, rs -> {
+			consumer.accept(RouteStreamPointDto.builder()
+				.meetingUserId(rs.getLong(1))
+				.lat(rs.getDouble(2))
+				.lng(rs.getDouble(3))
+				.movedAt(rs.getTimestamp(4).toLocalDateTime())
+				.build());
+		});
+	}
+}
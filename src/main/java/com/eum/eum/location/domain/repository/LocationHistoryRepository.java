@@ -6,19 +6,23 @@ import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.eum.location.domain.entity.LocationHistory;
 
-import io.lettuce.core.dynamic.annotation.Param;
-
 public interface LocationHistoryRepository extends JpaRepository<LocationHistory, Long> {
 
 	// 미팅의 모든 참여자 경로 조회
+	// meeting_id + moved_at 범위 조건으로 파티션 프루닝 & (meeting_id, meeting_user_id, moved_at) 인덱스 사용
+	// 컬럼 추가 전 이력의 meeting_id는 LocationHistoryMeetingIdBackfill이 기동 시 채운다
 	@EntityGraph(attributePaths = {"meetingUser", "meetingUser.user"})
 	@Query("SELECT lh FROM LocationHistory lh " +
-		"WHERE lh.meetingUser.meeting.id = :meetingId " +
+		"WHERE lh.meetingId = :meetingId " +
+		"AND lh.movedAt >= :from AND lh.movedAt < :to " +
 		"ORDER BY lh.meetingUser.id, lh.movedAt ASC")
 	List<LocationHistory> findRoutesByMeetingId(
-		@Param("meetingId") Long meetingId
+		@Param("meetingId") Long meetingId,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
 	);
 }
@@ -0,0 +1,5 @@
+package com.eum.eum.location.dto;
+
+// 재접속 시 마지막으로 받은 위치 버전 (처음 접속이면 null)
+public record LocationInitRequestDto(Long sinceVersion) {
+}
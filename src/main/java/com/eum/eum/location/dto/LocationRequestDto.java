@@ -17,7 +17,9 @@ public class LocationRequestDto {
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm")
 	private LocalDateTime movedAt;
 
-	public LocationRedisEntity toRedisEntity(LocalDateTime lastBatchInsertAt) {
-		return LocationRedisEntity.create(meetingUserId, lat, lng, movedAt, lastBatchInsertAt);
+	// 이동 시각이 없으면 수신 시각으로 대체 (배치 이력 저장 시 moved_at NOT NULL)
+	public LocationRedisEntity toRedisEntity() {
+		LocalDateTime at = movedAt != null ? movedAt : LocalDateTime.now();
+		return LocationRedisEntity.create(meetingUserId, lat, lng, at, null);
 	}
 }
@@ -10,7 +10,7 @@ import lombok.Builder;
 import lombok.Data;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class LocationResponseDto {
 	private Long meetingUserId;
 	private Double lat;
@@ -0,0 +1,34 @@
+package com.eum.eum.location.dto;
+
+import java.util.List;
+
+import com.eum.eum.location.cache.LocationSnapshot;
+import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * /init 응답
+ * full=true면 locations가 전체 목록, false면 sinceVersion 이후 변경분 (+ 삭제된 참여자)
+ * 클라이언트는 version을 저장해 두었다가 재접속 시 sinceVersion으로 보낸다
+ */
+@Getter
+@Builder
+public class LocationSnapshotResponseDto {
+	private Long version;
+	private boolean full;
+	private List<LocationResponseDto> locations;
+	private List<Long> removedMeetingUserIds;
+
+	public static LocationSnapshotResponseDto from(LocationSnapshot<LocationRedisEntity> snapshot) {
+		return LocationSnapshotResponseDto.builder()
+			.version(snapshot.version())
+			.full(snapshot.full())
+			.locations(snapshot.locations().stream()
+				.map(LocationResponseDto::from)
+				.toList())
+			.removedMeetingUserIds(snapshot.removedMeetingUserIds())
+			.build();
+	}
+}
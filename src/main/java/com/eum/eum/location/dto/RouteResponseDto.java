@@ -1,23 +1,65 @@
 package com.eum.eum.location.dto;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import com.eum.eum.common.util.PolylineEncoder;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * 참여자별 경로
+ * - 기본: route에 지점 객체 리스트
+ * - polyline 형식: route 대신 polyline(Google Encoded Polyline) + baseMovedAt + timeDeltas(초, 이전 지점 대비)
+ */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class RouteResponseDto {
 	private Long meetingUserId;
 	private List<RoutePointResponseDto> route;
 
+	private String polyline;
+	private LocalDateTime baseMovedAt;
+	private List<Long> timeDeltas;
+
 	public static RouteResponseDto from(MeetingUser meetingUser, List<RoutePointResponseDto> route) {
 		return RouteResponseDto.builder()
 			.meetingUserId(meetingUser.getId())
 			.route(route)
 			.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 압축 형식으로 변환 (지점 하나당 JSON 객체 대신 좌표 몇 글자 + 시간 차이 정수 하나)
+	 */
+	public RouteResponseDto toPolyline() {
+		if (route == null || route.isEmpty()) {
+			return RouteResponseDto.builder()
+				.meetingUserId(meetingUserId)
+				.polyline("")
+				.timeDeltas(List.of())
+				.build();
+		}
+
+		LocalDateTime base = route.getFirst().getMovedAt();
+		List<Long> deltas = new ArrayList<>(route.size());
+		LocalDateTime prev = base;
+		for (RoutePointResponseDto point : route) {
+			deltas.add(Duration.between(prev, point.getMovedAt()).toSeconds());
+			prev = point.getMovedAt();
+		}
+
+		return RouteResponseDto.builder()
+			.meetingUserId(meetingUserId)
+			.polyline(PolylineEncoder.encode(route, RoutePointResponseDto::getLat, RoutePointResponseDto::getLng))
+			.baseMovedAt(base)
+			.timeDeltas(deltas)
+			.build();
+	}
+}
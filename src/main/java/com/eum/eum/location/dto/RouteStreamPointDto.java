@@ -0,0 +1,19 @@
+package com.eum.eum.location.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 경로 스트리밍(NDJSON) 한 줄 = 한 지점
+ * 엔티티를 거치지 않고 ResultSet에서 바로 만든다
+ */
+@Getter
+@Builder
+public class RouteStreamPointDto {
+	private Long meetingUserId;
+	private Double lat;
+	private Double lng;
+	private LocalDateTime movedAt;
+}
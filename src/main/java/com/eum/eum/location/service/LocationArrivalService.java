@@ -0,0 +1,46 @@
+package com.eum.eum.location.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eum.eum.common.exception.BusinessException;
+import com.eum.eum.common.exception.ErrorCode;
+import com.eum.eum.location.cache.MovementStatusCache;
+import com.eum.eum.location.domain.entity.Location;
+import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도착 처리 (도착 범위 안 + 캐시상 아직 도착 전일 때만 호출됨)
+ * 위치 전송 경로에서 트랜잭션이 필요한 유일한 부분이라 별도 빈으로 분리
+ */
+@Service
+@RequiredArgsConstructor
+public class LocationArrivalService {
+	private final MeetingUserRepository meetingUserRepository;
+	private final MovementStatusCache movementStatusCache;
+
+	/**
+	 * 도착 상태로 변경하고 도착 메시지 반환
+	 * 이미 도착한 상태면 null (캐시만 채움)
+	 */
+	@Transactional
+	public String arrive(Long userId, Long meetingId, Location goal, Double lat, Double lng) {
+		MeetingUser meetingUser = meetingUserRepository.findByMeetingIdAndUserId(meetingId, userId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND));
+
+		// 이미 도착한 상태면 중복 처리 방지 (5초마다 "도착했습니다!" 도배 방지)
+		if (meetingUser.getMovementStatus() == MovementStatus.ARRIVED) {
+			movementStatusCache.put(meetingId, userId, MovementStatus.ARRIVED);
+			return null;
+		}
+
+		// 상태 변경 이벤트가 커밋 후 MovementStatusCache를 갱신
+		meetingUser.determineStatusOnDisconnectAndPublish(lat, lng, goal);
+		meetingUserRepository.save(meetingUser); // 이벤트 발행을 위함
+		return meetingUser.getUser().getNickName() + "님이 도착했습니다!";
+	}
+}
@@ -0,0 +1,129 @@
+package com.eum.eum.location.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.eum.eum.location.dto.LocationResponseDto;
+import com.eum.eum.websocket.converter.CompactPayloadNegotiation;
+import com.eum.eum.websocket.converter.LocationCompactMessageConverter;
+import com.eum.eum.websocket.session.LocationSubscriptionRegistry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위치 브로드캐스트 (미팅별 묶음 전송)
+ * - /sub/meeting/{id}/location          : 기존 JSON
+ * - /sub/meeting/{id}/location/compact  : 압축 포맷 (CONNECT 시 accept-payload: compact 협상한 세션)
+ *
+ * 위치가 들어올 때마다 바로 보내지 않고 미팅별로 참여자의 최신 위치만 모아 두었다가
+ * flush 주기마다 미팅당 한 프레임(List)으로 전송한다
+ * -> 같은 사용자의 연속 업데이트는 합쳐지고, 미팅당 송신 빈도는 전송 주기로 고정된다
+ * flush-interval-ms 가 0 이하면 묶지 않고 즉시 전송 (List가 아닌 단건 그대로)
+ *
+ * 구독자가 없는 포맷은 직렬화/전송하지 않는다 (LocationSubscriptionRegistry, simple 모드 한정)
+ */
+@Slf4j
+@Component
+public class LocationBroadcaster {
+	private static final Map<String, Object> COMPACT_HEADERS =
+		Map.of(MessageHeaders.CONTENT_TYPE, LocationCompactMessageConverter.MIME_TYPE);
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final TaskScheduler locationBroadcastScheduler;
+	private final LocationSubscriptionRegistry subscriptionRegistry;
+	private final long flushIntervalMs;
+
+	// meetingId -> (meetingUserId -> 최신 위치), 내부 Map은 compute 안에서만 변경
+	private final ConcurrentHashMap<Long, Map<Long, LocationResponseDto>> pending = new ConcurrentHashMap<>();
+
+	public LocationBroadcaster(
+		SimpMessagingTemplate messagingTemplate,
+		@Qualifier("locationBroadcastScheduler") TaskScheduler locationBroadcastScheduler,
+		LocationSubscriptionRegistry subscriptionRegistry,
+		@Value("${websocket.location.flush-interval-ms:1000}") long flushIntervalMs
+	) {
+		this.messagingTemplate = messagingTemplate;
+		this.locationBroadcastScheduler = locationBroadcastScheduler;
+		this.subscriptionRegistry = subscriptionRegistry;
+		this.flushIntervalMs = flushIntervalMs;
+	}
+
+	@PostConstruct
+	void startFlush() {
+		if (flushIntervalMs > 0) {
+			locationBroadcastScheduler.scheduleAtFixedRate(this::flush, Duration.ofMillis(flushIntervalMs));
+		}
+	}
+
+	public void broadcast(Long meetingId, LocationResponseDto location) {
+		if (flushIntervalMs <= 0) {
+			send(meetingId, location);
+			return;
+		}
+
+		pending.compute(meetingId, (id, users) -> {
+			Map<Long, LocationResponseDto> latest = users != null ? users : new HashMap<>();
+			latest.merge(location.getMeetingUserId(), location, LocationBroadcaster::coalesce);
+			return latest;
+		});
+	}
+
+	/**
+	 * 모인 위치를 미팅별로 한 번에 전송
+	 */
+	public void flush() {
+		for (Long meetingId : pending.keySet()) {
+			Map<Long, LocationResponseDto> users = pending.remove(meetingId);
+			if (users == null || users.isEmpty()) {
+				continue;
+			}
+
+			try {
+				send(meetingId, new ArrayList<>(users.values()));
+			} catch (Exception e) {
+				log.error("위치 브로드캐스트 실패 - meetingId: {}", meetingId, e);
+			}
+		}
+	}
+
+	// payload: 단건(LocationResponseDto) 또는 묶음(List)
+	private void send(Long meetingId, Object payload) {
+		String destination = locationDestination(meetingId);
+		if (subscriptionRegistry.hasJsonSubscribers(meetingId)) {
+			messagingTemplate.convertAndSend(destination, payload);
+		}
+		if (subscriptionRegistry.hasCompactSubscribers(meetingId)) {
+			messagingTemplate.convertAndSend(destination + CompactPayloadNegotiation.DESTINATION_SUFFIX, payload,
+				COMPACT_HEADERS);
+		}
+	}
+
+	// 같은 주기 안의 이전 업데이트에 도착 메시지가 있었다면 유실되지 않도록 이어받음
+	// 호출자가 넘긴 DTO는 건드리지 않고 복사본에 반영
+	private static LocationResponseDto coalesce(LocationResponseDto previous, LocationResponseDto next) {
+		if (next.getMessage() == null && previous.getMessage() != null) {
+			return next.toBuilder()
+				.message(previous.getMessage())
+				.isArrived(previous.getIsArrived())
+				.movementStatus(previous.getMovementStatus())
+				.build();
+		}
+		return next;
+	}
+
+	public static String locationDestination(Long meetingId) {
+		return "/sub/meeting/" + meetingId + "/location";
+	}
+}
@@ -0,0 +1,136 @@
+package com.eum.eum.location.service;
+
+import static com.eum.eum.location.domain.constrants.LocationTrackingConstants.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eum.eum.common.util.LocationUtil;
+import com.eum.eum.location.cache.MeetingLocationRedisCache;
+import com.eum.eum.location.domain.entity.redis.MeetingLocationRedisEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위치 수신 필터 (Redis 저장/브로드캐스트 전 단계)
+ * 세션별 마지막으로 내보낸 지점을 메모리에 두고, 기준 거리 미만의 흔들림(GPS jitter)은 걸러낸다
+ * - FORWARD     : 처음 받은 위치이거나 기준 거리 이상 이동, 또는 도착 반경 경계를 넘음 → 저장 + 브로드캐스트
+ * - REFRESH_TTL : 제자리지만 마지막 저장 후 refresh 주기가 지남 → 위치는 그대로 두고 TTL만 연장
+ * - SUPPRESS    : 제자리 → 아무것도 하지 않음 (Redis 왕복 없음)
+ * 정지한 사용자는 refresh 주기마다 EXPIRE 한 번만 발생한다
+ * 상태는 노드 로컬 + STOMP 세션 단위라 재접속(다른 노드 포함)하면 새 세션의 첫 위치는 항상 FORWARD
+ * 연결 종료 시 WebSocketEventListener가 forget으로 정리한다
+ */
+@Slf4j
+@Component
+public class LocationIngestFilter {
+
+	public enum Decision {
+		FORWARD, REFRESH_TTL, SUPPRESS
+	}
+
+	private final MeetingLocationRedisCache meetingLocationRedisCache;
+	private final double minMoveMeters;
+	private final long ttlRefreshIntervalMs;
+
+	// sessionId -> 마지막으로 내보낸 지점
+	private final ConcurrentHashMap<String, LastPublished> lastPublished = new ConcurrentHashMap<>();
+
+	private final LongAdder forwarded = new LongAdder();
+	private final LongAdder suppressed = new LongAdder();
+	private final LongAdder ttlRefreshed = new LongAdder();
+
+	public LocationIngestFilter(
+		MeetingLocationRedisCache meetingLocationRedisCache,
+		@Value("${location.ingest.min-move-meters:5}") double minMoveMeters,
+		@Value("${location.ingest.ttl-refresh-interval-ms:60000}") long ttlRefreshIntervalMs
+	) {
+		this.meetingLocationRedisCache = meetingLocationRedisCache;
+		this.minMoveMeters = minMoveMeters;
+		this.ttlRefreshIntervalMs = ttlRefreshIntervalMs;
+	}
+
+	public Decision evaluate(String sessionId, Long meetingId, Double lat, Double lng) {
+		return evaluate(sessionId, meetingId, lat, lng, System.currentTimeMillis());
+	}
+
+	Decision evaluate(String sessionId, Long meetingId, Double lat, Double lng, long nowMs) {
+		// 목적지는 로컬 캐시 조회 (FORWARD 시 도착 판정에도 필요하므로 추가 비용 거의 없음)
+		MeetingLocationRedisEntity goal = meetingLocationRedisCache.getOrLoad(meetingId);
+		Decision[] decision = new Decision[1];
+
+		lastPublished.compute(sessionId, (key, last) -> {
+			if (last == null
+				|| !LocationUtil.isWithinDistance(last.lat(), last.lng(), lat, lng, minMoveMeters)
+				|| crossesArrivalRadius(goal, last.lat(), last.lng(), lat, lng)) {
+				decision[0] = Decision.FORWARD;
+				return new LastPublished(lat, lng, nowMs);
+			}
+			if (nowMs - last.writtenAtMs() >= ttlRefreshIntervalMs) {
+				decision[0] = Decision.REFRESH_TTL;
+				return new LastPublished(last.lat(), last.lng(), nowMs);
+			}
+			decision[0] = Decision.SUPPRESS;
+			return last;
+		});
+
+		switch (decision[0]) {
+			case FORWARD -> forwarded.increment();
+			case REFRESH_TTL -> {
+				suppressed.increment();
+				ttlRefreshed.increment();
+			}
+			case SUPPRESS -> suppressed.increment();
+		}
+		return decision[0];
+	}
+
+	/**
+	 * TTL 연장 대상 위치가 이미 지워진 경우 (다른 노드의 이전 세션 정리 등) 다시 저장하도록 전환
+	 */
+	public void markForwarded(String sessionId, Double lat, Double lng) {
+		lastPublished.put(sessionId, new LastPublished(lat, lng, System.currentTimeMillis()));
+		forwarded.increment();
+	}
+
+	/**
+	 * 연결 종료 시 세션 상태 정리
+	 */
+	public void forget(String sessionId) {
+		lastPublished.remove(sessionId);
+	}
+
+	public long getForwardedCount() {
+		return forwarded.sum();
+	}
+
+	// TTL 연장만 한 경우 포함
+	public long getSuppressedCount() {
+		return suppressed.sum();
+	}
+
+	public long getTtlRefreshedCount() {
+		return ttlRefreshed.sum();
+	}
+
+	public int getTrackedCount() {
+		return lastPublished.size();
+	}
+
+	// 기준 거리 미만이라도 도착 반경 안/밖이 바뀌면 도착 판정을 위해 내보냄
+	private static boolean crossesArrivalRadius(MeetingLocationRedisEntity goal,
+		Double lastLat, Double lastLng, Double lat, Double lng) {
+		return isInArrivalRadius(goal, lastLat, lastLng) != isInArrivalRadius(goal, lat, lng);
+	}
+
+	private static boolean isInArrivalRadius(MeetingLocationRedisEntity goal, Double lat, Double lng) {
+		return LocationUtil.isWithinDistance(lat, lng, goal.getTargetLat(), goal.getTargetLng(),
+			ARRIVAL_DISTANCE_METERS);
+	}
+
+	private record LastPublished(Double lat, Double lng, long writtenAtMs) {
+	}
+}
@@ -2,7 +2,6 @@ package com.eum.eum.location.service;
 
 import static com.eum.eum.location.domain.constrants.LocationTrackingConstants.*;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -12,11 +11,14 @@ import com.eum.eum.common.exception.ErrorCode;
 import com.eum.eum.common.exception.BusinessException;
 import com.eum.eum.common.util.LocationUtil;
 import com.eum.eum.location.cache.MeetingLocationRedisCache;
+import com.eum.eum.location.cache.MovementStatusCache;
+import com.eum.eum.location.cache.NearbyUser;
 import com.eum.eum.location.domain.entity.Location;
 import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
 import com.eum.eum.location.domain.entity.redis.MeetingLocationRedisEntity;
 import com.eum.eum.location.dto.LocationRequestDto;
 import com.eum.eum.location.dto.LocationResponseDto;
+import com.eum.eum.location.dto.LocationSnapshotResponseDto;
 import com.eum.eum.location.cache.LocationCache;
 import com.eum.eum.meeting.domain.entity.Meeting;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
@@ -35,8 +37,10 @@ public class LocationSharingService {
 	private final MeetingRepository meetingRepository;
 	private final MeetingUserRepository meetingUserRepository;
 	private final MeetingLocationRedisCache meetingLocationRedisCache;
+	private final MovementStatusCache movementStatusCache;
+	private final LocationArrivalService locationArrivalService;
 
-	@Transactional
+	// 트랜잭션 없음 - 도착 처리(LocationArrivalService)에서만 DB 접근
 	public LocationResponseDto pubLocation(
 		Long userId,
 		Long meetingId,
@@ -53,30 +57,22 @@ public class LocationSharingService {
 		String message = null;
 		MovementStatus movementStatus = MovementStatus.MOVING;
 
-		if (isArrived) {
-			MeetingUser meetingUser = meetingUserRepository.findByMeetingIdAndUserId(meetingId, userId)
-				.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND));
-
-			// 이미 도착한 상태면 중복 처리 방지 (5초마다 "도착했습니다!" 도배 방지)
-			if (meetingUser.getMovementStatus() != MovementStatus.ARRIVED) {
-				meetingUser.determineStatusOnDisconnectAndPublish(
-					requestDto.getLat(),
-					requestDto.getLng(),
-					new Location(goal.getTargetLat(), goal.getTargetLng())
-				);
-				meetingUserRepository.save(meetingUser); // 이벤트 발행을 위함
-				message = meetingUser.getUser().getNickName() + "님이 도착했습니다!";
+		// 이미 도착한 상태는 로컬 캐시로 판단 (DB 조회 없음)
+		if (isArrived && !movementStatusCache.isArrived(meetingId, userId)) {
+			message = locationArrivalService.arrive(
+				userId,
+				meetingId,
+				new Location(goal.getTargetLat(), goal.getTargetLng()),
+				requestDto.getLat(),
+				requestDto.getLng()
+			);
+			if (message != null) {
 				movementStatus = MovementStatus.ARRIVED;
 			}
 		}
 
-		LocationRedisEntity existing = locationCache.getLatest(meetingId, userId);
-
-		// 2. Entity 생성 및 lastProcessedTime 설정
-		LocalDateTime lastBatchInsertedAt = null;
-		if (existing != null)
-			lastBatchInsertedAt = existing.getLastBatchInsertAt();
-		LocationRedisEntity entity = requestDto.toRedisEntity(lastBatchInsertedAt);
+		// lastBatchInsertAt은 별도 키로 관리되므로 기존 위치를 조회하지 않고 바로 저장 (Redis 1회 왕복)
+		LocationRedisEntity entity = requestDto.toRedisEntity();
 
 		locationCache.saveLatest(meetingId, userId, entity);
 		return LocationResponseDto.from(entity, isArrived, message, movementStatus);
@@ -89,6 +85,14 @@ public class LocationSharingService {
 		locationCache.remove(meetingId, userId);
 	}
 
+	// 제자리에 있는 사용자 - 위치는 그대로 두고 만료만 연장 (위치가 이미 지워졌으면 false)
+	public boolean refreshLocation(
+		Long userId,
+		Long meetingId
+	) {
+		return locationCache.touch(meetingId, userId);
+	}
+
 	public List<LocationResponseDto> getAllLocation(
 		Long meetingId
 	) {
@@ -99,6 +103,31 @@ public class LocationSharingService {
 			.toList();
 	}
 
+	/**
+	 * 접속/재접속 시 위치 스냅샷
+	 * sinceVersion 이후 변경분만 내려주고, 필요하면(첫 접속, 공백이 큼) 전체 목록
+	 */
+	public LocationSnapshotResponseDto getLocationSnapshot(
+		Long meetingId,
+		Long sinceVersion
+	) {
+		return LocationSnapshotResponseDto.from(locationCache.getChangesSince(meetingId, sinceVersion));
+	}
+
+	/**
+	 * 현재 위치 기준 도착 범위 안에 있는 참여자 userId (목적지에서 가까운 순)
+	 * location.geo-index.enabled=true면 Redis GEO 반경 조회, 아니면 미팅 위치 해시를 읽어 거리 계산
+	 */
+	public List<Long> getUserIdsWithinArrivalRange(Long meetingId) {
+		MeetingLocationRedisEntity goal = meetingLocationRedisCache.getOrLoad(meetingId);
+
+		return locationCache.findWithinRadius(meetingId, goal.getTargetLat(), goal.getTargetLng(),
+				ARRIVAL_DISTANCE_METERS)
+			.stream()
+			.map(NearbyUser::userId)
+			.toList();
+	}
+
 	//판단
 	@Transactional
 	public void checkMovementStatus(
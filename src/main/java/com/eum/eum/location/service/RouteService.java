@@ -1,16 +1,34 @@
 package com.eum.eum.location.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.eum.eum.common.exception.BusinessException;
+import com.eum.eum.common.exception.ErrorCode;
+import com.eum.eum.common.util.RouteSimplifier;
+import com.eum.eum.location.domain.constrants.LocationTrackingConstants;
 import com.eum.eum.location.domain.entity.LocationHistory;
+import com.eum.eum.location.domain.repository.LocationHistoryJdbcRepository;
 import com.eum.eum.location.domain.repository.LocationHistoryRepository;
 import com.eum.eum.location.dto.RoutePointResponseDto;
 import com.eum.eum.location.dto.RouteResponseDto;
+import com.eum.eum.location.dto.RouteStreamPointDto;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,10 +37,97 @@ import lombok.RequiredArgsConstructor;
 public class RouteService {
 
 	private final LocationHistoryRepository locationHistoryRepository;
+	private final LocationHistoryJdbcRepository locationHistoryJdbcRepository;
+	private final MeetingRepository meetingRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final ObjectMapper objectMapper;
 
+	private static final int STREAM_FLUSH_INTERVAL = 500;
+
+	// 종료된 미팅의 단순화 결과 캐시 (경로가 더 이상 바뀌지 않으므로 무효화 불필요)
+	private final Cache<SimplifiedRouteKey, List<RouteResponseDto>> simplifiedRouteCache = Caffeine.newBuilder()
+		.maximumSize(1_000)
+		.expireAfterAccess(Duration.ofHours(1))
+		.build();
+
+	private record SimplifiedRouteKey(Long meetingId, Double toleranceMeters, Integer maxPoints) {
+	}
+
+	// 약속시간이 없는 미팅(이전 데이터)은 구간 제한 없이 전체 조회
+	private static final LocalDateTime UNBOUNDED_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+	private static final LocalDateTime UNBOUNDED_TO = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+	/**
+	 * 경로 조회 구간 [from, to)
+	 * 약속시간 ± ROUTE_WINDOW 로 제한 -> 해당 일자 파티션만 스캔
+	 * 이 구간 밖의 위치 기록은 경로에 포함되지 않는다
+	 */
+	record RouteRange(LocalDateTime from, LocalDateTime to) {
+		static RouteRange of(LocalDateTime meetAt) {
+			if (meetAt == null) {
+				return new RouteRange(UNBOUNDED_FROM, UNBOUNDED_TO);
+			}
+			return new RouteRange(
+				meetAt.minus(LocationTrackingConstants.ROUTE_WINDOW),
+				meetAt.plus(LocationTrackingConstants.ROUTE_WINDOW));
+		}
+
+		// 구간이 끝났으면 더 이상 경로가 늘어나지 않음
+		boolean isClosed() {
+			return LocalDateTime.now().isAfter(to);
+		}
+	}
+
+	/**
+	 * 미팅 참여자별 경로 조회 (약속시간 ± ROUTE_WINDOW 구간, 약속시간이 없으면 전체)
+	 */
 	public List<RouteResponseDto> getAllRoutesForMeeting(Long meetingId) {
+		return loadRoutes(meetingId, getRouteRange(meetingId));
+	}
+
+	/**
+	 * 단순화된 경로 조회 (Douglas–Peucker)
+	 * 둘 다 null이면 원본 경로 그대로
+	 * @param toleranceMeters 허용 오차(미터)
+	 * @param maxPoints       참여자별 최대 지점 수
+	 */
+	public List<RouteResponseDto> getAllRoutesForMeeting(Long meetingId, Double toleranceMeters, Integer maxPoints) {
+		if (toleranceMeters == null && maxPoints == null) {
+			return getAllRoutesForMeeting(meetingId);
+		}
+		if ((toleranceMeters != null && toleranceMeters < 0) || (maxPoints != null && maxPoints < 2)) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT, "tolerance는 0 이상, maxPoints는 2 이상이어야 합니다");
+		}
+
+		RouteRange range = getRouteRange(meetingId);
+
+		// 진행 중인 미팅은 경로가 계속 늘어나므로 캐시하지 않음
+		if (!range.isClosed()) {
+			return simplify(loadRoutes(meetingId, range), toleranceMeters, maxPoints);
+		}
+
+		return simplifiedRouteCache.get(
+			new SimplifiedRouteKey(meetingId, toleranceMeters, maxPoints),
+			key -> simplify(loadRoutes(meetingId, range), toleranceMeters, maxPoints));
+	}
+
+	private List<RouteResponseDto> simplify(List<RouteResponseDto> routes, Double toleranceMeters, Integer maxPoints) {
+		return routes.stream()
+			.map(route -> RouteResponseDto.builder()
+				.meetingUserId(route.getMeetingUserId())
+				.route(RouteSimplifier.simplify(
+					route.getRoute(),
+					RoutePointResponseDto::getLat,
+					RoutePointResponseDto::getLng,
+					toleranceMeters,
+					maxPoints))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	private List<RouteResponseDto> loadRoutes(Long meetingId, RouteRange range) {
 		List<LocationHistory> histories = locationHistoryRepository
-			.findRoutesByMeetingId(meetingId);
+			.findRoutesByMeetingId(meetingId, range.from(), range.to());
 
 		// MeetingUser ID로 그룹핑
 		Map<Long, List<LocationHistory>> groupedById = histories.stream()
@@ -45,4 +150,45 @@ public class RouteService {
 			.collect(Collectors.toList());
 	}
 
+	/**
+	 * 경로 스트리밍 (NDJSON, 한 줄에 한 지점)
+	 * JDBC 커서로 읽은 행을 바로 응답에 쓰므로 경로 길이와 무관하게 메모리 사용량이 일정하다
+	 * 정렬: meetingUserId, movedAt 순 / 구간: getAllRoutesForMeeting과 동일
+	 */
+	public StreamingResponseBody streamRoutesForMeeting(Long meetingId) {
+		// 미팅 존재 확인은 스트리밍 시작 전에 (404 응답 가능하도록)
+		RouteRange range = getRouteRange(meetingId);
+
+		TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+
+		return out -> {
+			// 한 줄에 한 지점 (루트 값 구분자를 기본 공백 대신 줄바꿈으로)
+			try (SequenceWriter writer = objectMapper.writerFor(RouteStreamPointDto.class)
+				.withRootValueSeparator("\n")
+				.writeValues(out)) {
+				int[] count = {0};
+
+				// 커서 fetch를 위해 읽기 전용 트랜잭션 안에서 조회
+				readOnlyTx.executeWithoutResult(status ->
+					locationHistoryJdbcRepository.streamRoutes(meetingId, range.from(), range.to(), point -> {
+						try {
+							writer.write(point);
+							if (++count[0] % STREAM_FLUSH_INTERVAL == 0) {
+								writer.flush();
+							}
+						} catch (IOException e) {
+							// 클라이언트 연결 끊김 등 -> 커서 조회 중단
+							throw new UncheckedIOException(e);
+						}
+					}));
+			}
+		};
+	}
+
+	private RouteRange getRouteRange(Long meetingId) {
+		return RouteRange.of(meetingRepository.findById(meetingId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "일정", meetingId))
+			.getMeetAt());
+	}
 }
@@ -114,6 +114,7 @@ public class MeetingUser extends BaseEntity {
 		registerEvent(new MovementStatusChangedEvent(
 			this.meeting.getId(),
 			this.id,
+			this.user.getId(),
 			this.user.getUsername(),
 			this.user.getNickName(),
 			newStatus,
@@ -188,14 +189,13 @@ public class MeetingUser extends BaseEntity {
 			return true;
 		}
 
-		double distance = LocationUtil.calculateDistance(
+		boolean hasMoved = !LocationUtil.isWithinDistance(
 			newLat, newLng,
 			this.lastLocation.getLat(),
-			this.lastLocation.getLng()
+			this.lastLocation.getLng(),
+			LocationTrackingConstants.MIN_MOVE_DISTANCE_METERS
 		);
 
-		boolean hasMoved = distance >= LocationTrackingConstants.MIN_MOVE_DISTANCE_METERS;
-
 		// 실제 이동이 발생한 경우에만 위치 및 시간 갱신
 		if (hasMoved) {
 			updateLastLocation(newLat, newLng);
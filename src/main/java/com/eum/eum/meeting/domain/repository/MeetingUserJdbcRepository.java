@@ -0,0 +1,54 @@
+package com.eum.eum.meeting.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.eum.eum.common.domain.EntityStatus;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MeetingUser 대량 저장 전용 JDBC 리포지토리
+ * IDENTITY 전략이라 cascade/saveAll()로는 참가자마다 INSERT가 한 번씩 나간다 (LocationHistoryJdbcRepository 참고)
+ * 단체 초대(50~100명)는 batchUpdate로 묶어서 보낸다
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingUserJdbcRepository {
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_PARTICIPANT_SQL =
+		"INSERT INTO tb_meeting_user (meeting_id, user_id, movement_status, is_creator, created_at, modified_at, status) " +
+			"VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 일반 참가자 일괄 저장 - MeetingUser.createAsParticipant 와 같은 초기값 (PENDING, 생성자 아님)
+	 * 영속성 컨텍스트를 거치지 않으므로 저장 후 필요한 엔티티는 다시 조회해야 한다
+	 */
+	public void batchInsertParticipants(Long meetingId, Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String movementStatus = MovementStatus.PENDING.name();
+		String status = EntityStatus.ACTIVE.name();
+
+		jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, userIds, BATCH_SIZE, (ps, userId) -> {
+			ps.setLong(1, meetingId);
+			ps.setLong(2, userId);
+			ps.setString(3, movementStatus);
+			ps.setBoolean(4, false);
+			ps.setTimestamp(5, now);
+			ps.setTimestamp(6, now);
+			ps.setString(7, status);
+		});
+	}
+}
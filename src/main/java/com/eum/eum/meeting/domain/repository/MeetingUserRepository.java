@@ -1,9 +1,12 @@
 package com.eum.eum.meeting.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.eum.common.domain.EntityStatus;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
@@ -16,4 +19,16 @@ public interface MeetingUserRepository extends JpaRepository<MeetingUser, Long>
 	Optional<MeetingUser> findByMeetingIdAndUserId(Long meetingId, Long userId);
 
 	List<MeetingUser> findAllByMeetingId(Long meetingId);
+
+	@Query("""
+		    select mu
+		    from MeetingUser mu
+		    join fetch mu.user u
+		    where mu.meeting.id = :meetingId and u.id in :userIds
+		    order by mu.id
+		""")
+	List<MeetingUser> findAllWithUserByMeetingIdAndUserIdIn(
+		@Param("meetingId") Long meetingId,
+		@Param("userIds") Collection<Long> userIds
+	);
 }
@@ -0,0 +1,13 @@
+package com.eum.eum.meeting.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 약속 목적지가 바뀜 -> 커밋 후 MeetingLocationRedisCache 무효화
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingLocationChangedEvent {
+	private Long meetingId;
+}
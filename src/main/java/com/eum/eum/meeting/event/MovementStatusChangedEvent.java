@@ -12,6 +12,7 @@ import lombok.Getter;
 public class MovementStatusChangedEvent {
 	private Long meetingId;
 	private Long meetingUserId;
+	private Long userId;
 	private String username;
 	private String nickName;
 	private MovementStatus movementStatus;
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eum.eum.auth.service.AuthenticatedUserProvider;
 import com.eum.eum.common.domain.EntityStatus;
 import com.eum.eum.common.exception.ErrorCode;
 import com.eum.eum.common.exception.BusinessException;
@@ -21,8 +23,8 @@ import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
 import com.eum.eum.meeting.dto.MeetingCreateRequestDto;
 import com.eum.eum.meeting.dto.MeetingResponseDto;
 import com.eum.eum.meeting.dto.MeetingUpdateDto;
+import com.eum.eum.meeting.event.MeetingLocationChangedEvent;
 import com.eum.eum.user.domain.entity.User;
-import com.eum.eum.user.domain.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,14 +32,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MeetingService {
 	private final MeetingRepository meetingRepository;
-	private final UserRepository userRepository;
+	private final AuthenticatedUserProvider authenticatedUserProvider;
 	private final MeetingUserRepository meetingUserRepository;
 	private final CustomBeanUtils customBeanUtils;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public MeetingResponseDto createMeeting(MeetingCreateRequestDto requestDto, String email) {
-		User creator = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User creator = authenticatedUserProvider.getUser(email);
 		Meeting meeting = requestDto.toEntity(creator);
 
 		Meeting savedMeeting = meetingRepository.save(meeting);
@@ -47,8 +49,7 @@ public class MeetingService {
 
 	@Transactional
 	public MeetingResponseDto updateMeeting(Long meetingId, MeetingUpdateDto updateDto, String email) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		Meeting targetMeeting = meetingRepository.findById(meetingId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "일정", meetingId));
@@ -60,13 +61,17 @@ public class MeetingService {
 		customBeanUtils.patch(updateDto, targetMeeting);
 		targetMeeting.updateLocation(updateDto.getLat(), updateDto.getLng());
 
+		// 목적지가 바뀌면 도착 판정용 캐시(로컬 + Redis) 무효화 - 커밋 전에 지우면 그 사이 위치 전송이 이전 목적지를 다시 적재
+		if (updateDto.getLat() != null || updateDto.getLng() != null) {
+			eventPublisher.publishEvent(new MeetingLocationChangedEvent(meetingId));
+		}
+
 		return MeetingResponseDto.from(targetMeeting);
 	}
 
 	@Transactional
 	public boolean deleteMeeting(Long meetingId, String email) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		Meeting targetMeeting = meetingRepository.findByIdWithUsers(meetingId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "일정", meetingId));
@@ -81,8 +86,7 @@ public class MeetingService {
 
 	@Transactional
 	public Page<MeetingResponseDto> getMeetingList(String email, boolean isPast, int page, int size) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		LocalDateTime cutoffTime = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusHours(1);
 
@@ -103,8 +107,7 @@ public class MeetingService {
 
 	@Transactional
 	public MeetingResponseDto getMeetingDetail(String email, Long meetingId) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		//영속성 컨텍스트 상태, 쿼리 비교
 		Meeting targetMeeting = meetingRepository.findByIdWithUsers(meetingId)
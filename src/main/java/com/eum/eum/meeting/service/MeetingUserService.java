@@ -1,11 +1,14 @@
 package com.eum.eum.meeting.service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eum.eum.auth.service.AuthenticatedUserProvider;
 import com.eum.eum.common.domain.EntityStatus;
 import com.eum.eum.common.exception.ErrorCode;
 import com.eum.eum.common.exception.BusinessException;
@@ -14,6 +17,7 @@ import com.eum.eum.meeting.domain.entity.Meeting;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
 import com.eum.eum.meeting.domain.entity.MovementStatus;
 import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.eum.eum.meeting.domain.repository.MeetingUserJdbcRepository;
 import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
 import com.eum.eum.meeting.dto.MeetingUserDeleteRequestDto;
 import com.eum.eum.meeting.dto.MeetingUserResponseDto;
@@ -27,8 +31,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MeetingUserService {
 	private final MeetingUserRepository meetingUserRepository;
+	private final MeetingUserJdbcRepository meetingUserJdbcRepository;
 	private final MeetingRepository meetingRepository;
 	private final UserRepository userRepository;
+	private final AuthenticatedUserProvider authenticatedUserProvider;
 	private final CustomBeanUtils customBeanUtils;
 
 	@Transactional
@@ -37,8 +43,7 @@ public class MeetingUserService {
 		List<Long> userIds,
 		String email
 	) {
-		User requestUser = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User requestUser = authenticatedUserProvider.getUser(email);
 
 		Meeting meeting = meetingRepository.findByIdWithUsers(meetingId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "일정", meetingId));
@@ -47,20 +52,38 @@ public class MeetingUserService {
 		// 	throw new BusinessException(ErrorCode.ACCESS_DENIED);
 		// }
 
-		List<MeetingUser> newMeetingUsers = userIds.stream()
-			.map(userId -> {
-				User user = userRepository.findById(userId)
-					.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, userId.toString()));
+		// 요청 안의 중복 제거 (순서 유지)
+		Set<Long> targetUserIds = new LinkedHashSet<>(userIds);
+		if (targetUserIds.isEmpty()) {
+			return List.of();
+		}
 
-				if (meetingUserRepository.existsByMeetingIdAndUserId(meetingId, userId)) {
-					throw new BusinessException(ErrorCode.INVALID_INPUT, "이미 약속에 참여중인 사용자입니다: " + userId);
-				}
+		// 1. 참여 여부는 이미 fetch join 한 meeting.users로 판단 (사용자마다 exists 쿼리 X)
+		Set<Long> memberUserIds = meeting.getUsers().stream()
+			.map(mu -> mu.getUser().getId())
+			.collect(Collectors.toSet());
+		for (Long userId : targetUserIds) {
+			if (memberUserIds.contains(userId)) {
+				throw new BusinessException(ErrorCode.INVALID_INPUT, "이미 약속에 참여중인 사용자입니다: " + userId);
+			}
+		}
 
-				MeetingUser meetingUser = MeetingUser.createAsParticipant(user);
-				meeting.addMeetingUser(meetingUser);
-				return meetingUser;
-			})
-			.toList();
+		// 2. 사용자 존재 여부는 IN 한 번으로 확인
+		Set<Long> foundUserIds = userRepository.findAllById(targetUserIds).stream()
+			.map(User::getId)
+			.collect(Collectors.toSet());
+		for (Long userId : targetUserIds) {
+			if (!foundUserIds.contains(userId)) {
+				throw new BusinessException(ErrorCode.USER_NOT_FOUND, userId.toString());
+			}
+		}
+
+		// 3. 일괄 INSERT 후 id가 채워진 엔티티를 한 번에 다시 조회
+		//    같은 트랜잭션에서 meeting.getUsers()를 다시 보더라도 일치하도록 컬렉션에도 반영 (추가 쿼리 없음)
+		meetingUserJdbcRepository.batchInsertParticipants(meetingId, targetUserIds);
+		List<MeetingUser> newMeetingUsers =
+			meetingUserRepository.findAllWithUserByMeetingIdAndUserIdIn(meetingId, targetUserIds);
+		meeting.getUsers().addAll(newMeetingUsers);
 
 		return newMeetingUsers.stream()
 			.map(MeetingUserResponseDto::from)
@@ -73,8 +96,7 @@ public class MeetingUserService {
 		MeetingUserDeleteRequestDto requestDto,
 		String email
 	) {
-		User requestUser = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User requestUser = authenticatedUserProvider.getUser(email);
 
 		Meeting meeting = meetingRepository.findByIdWithUsers(meetingId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "일정", meetingId));
@@ -105,8 +127,7 @@ public class MeetingUserService {
 
 	@Transactional
 	public void leaveMeeting(Long meetingId, String email) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		Meeting meeting = meetingRepository.findByIdWithUsers(meetingId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "일정", meetingId));
@@ -123,8 +144,7 @@ public class MeetingUserService {
 
 	@Transactional
 	public void hideMeeting(Long meetingId, String email) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		MeetingUser meetingUser = meetingUserRepository.findByMeetingIdAndUserId(meetingId, user.getId())
 			.orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
@@ -138,8 +158,7 @@ public class MeetingUserService {
 		MeetingUserUpdateDto updateDto,
 		String email
 	) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, email));
+		User user = authenticatedUserProvider.getUser(email);
 
 		MeetingUser targetMeetingUser = meetingUserRepository.findById(meetingUserId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.DATA_NOT_FOUND, "약속 참가자 정보", meetingUserId));
@@ -2,6 +2,7 @@ package com.eum.eum.security.config;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +23,7 @@ import com.eum.eum.security.handler.CustomAccessDeniedHandler;
 import com.eum.eum.security.handler.CustomAuthenticationEntryPoint;
 import com.eum.eum.security.jwt.JwtAuthenticationFilter;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 //담는것 . securityFilterChain(필수), PasswordEncoder(비번 암호화), AuthenticationManager, Cors설정 등
@@ -33,6 +35,10 @@ public class SecurityConfig {
 	private final CustomAccessDeniedHandler customAccessDeniedHandler;
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+	// 액추에이터 전용 포트 (외부에 publish 하지 않음) - 이 포트로 들어온 요청만 인증 없이 허용
+	@Value("${management.server.port:-1}")
+	private int managementPort;
+
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 		http
@@ -55,6 +61,8 @@ public class SecurityConfig {
 						"/api/meeting/invite/**",
 						"/favicon.ico", "/error")
 					.permitAll()
+					.requestMatchers(this::isManagementPortRequest)
+					.permitAll()
 					.anyRequest()
 					.authenticated())
 			.headers(headers -> headers
@@ -66,6 +74,10 @@ public class SecurityConfig {
 		return http.build();
 	}
 
+	private boolean isManagementPortRequest(HttpServletRequest request) {
+		return managementPort > 0 && request.getLocalPort() == managementPort;
+	}
+
 	@Bean
 	public PasswordEncoder passwordEncoder() {
 		return new BCryptPasswordEncoder();
@@ -5,10 +5,12 @@ import java.io.IOException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.eum.eum.auth.cache.PrincipalCache;
+
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,7 +26,7 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-	private final UserDetailsService userDetailsService;
+	private final PrincipalCache principalCache;
 	private final JwtTokenProvider jwtTokenProvider;
 
 	//request에서 인증정보 꺼내오기
@@ -34,8 +36,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	 * JWT 토큰 기반 인증 처리
 	 *
 	 * 1. Authorization 헤더에서 JWT 토큰 추출
-	 * 2. 토큰 유효성 검증
-	 * 3. 토큰에서 사용자 정보 추출
+	 * 2. 토큰 유효성 검증 (파싱 1회)
+	 * 3. 토큰에서 사용자 정보 추출 (PrincipalCache - 캐시 히트 시 DB 조회 없음)
 	 * 4. SecurityContext에 인증 정보 저장
 	 * 5. 다음 필터로 요청 전달
 	 *
@@ -53,9 +55,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		String token = resolveToken(request);
 
-		if (token != null && jwtTokenProvider.validateToken(token)) {
-			String username = jwtTokenProvider.getUsername(token);
-			UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+		Claims claims = token != null ? jwtTokenProvider.getValidClaims(token) : null;
+		if (claims != null) {
+			UserDetails userDetails = principalCache.getOrLoad(claims.getSubject(), claims.getIssuedAt());
 
 			//비밀번호를 null로 두고 토큰의 유효성만 검증 -> manager호출할 필요 없음
 			UsernamePasswordAuthenticationToken authentication =
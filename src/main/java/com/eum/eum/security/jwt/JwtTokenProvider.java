@@ -134,15 +134,24 @@ public class JwtTokenProvider {
 	 * @return true: 유효한 토큰, false: 만료되었거나 유효하지 않은 토큰
 	 */
 	public boolean validateToken(String token) {
+		return getValidClaims(token) != null;
+	}
+
+	/**
+	 * 검증과 파싱을 한 번에 수행 (인증 필터용 - 검증 후 subject 추출로 두 번 파싱하지 않도록)
+	 *
+	 * @param token 검증할 JWT 토큰
+	 * @return 유효한 토큰의 Claims, 만료되었거나 유효하지 않으면 null
+	 */
+	public Claims getValidClaims(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
+			return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
 		} catch (ExpiredJwtException e) {
 			log.debug("만료된 JWT 토큰입니다.");
-			return false;
+			return null;
 		} catch (Exception e) {
 			log.debug("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
-			return false;
+			return null;
 		}
 	}
 
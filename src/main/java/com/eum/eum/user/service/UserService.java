@@ -1,5 +1,6 @@
 package com.eum.eum.user.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -7,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eum.eum.auth.event.PrincipalChangedEvent;
 import com.eum.eum.common.exception.BusinessException;
 import com.eum.eum.common.exception.ErrorCode;
 import com.eum.eum.user.domain.entity.User;
@@ -24,6 +26,7 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional(readOnly = true)
 	public Page<UserListResponseDto> getUserList(int page, int size) {
@@ -50,6 +53,8 @@ public class UserService {
 		}
 
 		user.updateProfile(encodedPassword, updateDto.getNickName());
+		// 캐시된 인증 주체(닉네임 등) 무효화 - 커밋 후
+		eventPublisher.publishEvent(new PrincipalChangedEvent(email));
 		return true;
 	}
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.eum.eum.webpush;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -8,16 +10,26 @@ import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FcmService {
 
 	private final FirebaseMessaging firebaseMessaging;
 
+	// 발송 지연 (결과별)
+	private final Timer successTimer;
+	private final Timer failureTimer;
+
+	public FcmService(FirebaseMessaging firebaseMessaging, MeterRegistry meterRegistry) {
+		this.firebaseMessaging = firebaseMessaging;
+		this.successTimer = Timer.builder("eum.fcm.send").tag("result", "success").register(meterRegistry);
+		this.failureTimer = Timer.builder("eum.fcm.send").tag("result", "failure").register(meterRegistry);
+	}
+
 	@Async
 	public void send(String token, String title, String body) {
 		Notification notification = Notification.builder()
@@ -30,9 +42,12 @@ public class FcmService {
 			.setNotification(notification)
 			.build();
 
+		long start = System.nanoTime();
 		try {
 			firebaseMessaging.send(message);
+			successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 		} catch (FirebaseMessagingException e) {
+			failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 			log.error("알림 발송 실패 - token: {}, error: {}", token.substring(0, 10) + "...", e.getMessage());
 		}
 	}
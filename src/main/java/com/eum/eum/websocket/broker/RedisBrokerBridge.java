@@ -0,0 +1,217 @@
+package com.eum.eum.websocket.broker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 멀티 노드 브로커 브리지 (websocket.broker.mode=redis)
+ * SimpleBroker는 노드 로컬이라, 노드 A에서 발행한 위치가 노드 B 구독자에게 가지 않는다
+ *
+ * - brokerChannel 인터셉터: /sub/meeting/{id}/** 로 나가는 메시지를 로컬 전달과 동시에
+ *   Redis 채널 ws:broker:meeting:{id} 로 발행
+ * - 미팅별 채널 샤딩: 해당 미팅 세션이 이 노드에 하나라도 있을 때만 그 채널을 구독
+ *   (노드는 자기가 가진 미팅 트래픽만 받는다)
+ * - 수신한 메시지는 relay 표시 헤더를 붙여 로컬 브로커로 전달 (재발행 방지)
+ * 자기 노드가 발행한 메시지는 nodeId로 걸러낸다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+	static final String CHANNEL_PREFIX = "ws:broker:meeting:";
+	static final String RELAYED_HEADER = "eumRelayed";
+
+	// 세션 전용 user destination(-user{sessionId})은 제외
+	private static final Pattern MEETING_TOPIC_PATTERN = Pattern.compile("^/sub/meeting/(\\d+)/(?!.*-user)");
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final MessageChannel brokerChannel;
+
+	private final Map<String, Long> sessionMeetings = new ConcurrentHashMap<>();
+	private final Map<Long, AtomicInteger> meetingSessionCounts = new ConcurrentHashMap<>();
+
+	// brokerChannel은 WebSocket 설정이 만드는 빈이라 순환 참조를 피하려고 지연 주입
+	public RedisBrokerBridge(
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		@Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.brokerChannel = brokerChannel;
+	}
+
+	// ===== 발행: 로컬 브로커로 가는 메시지를 Redis에도 전파 =====
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+		if (accessor.getMessageType() != SimpMessageType.MESSAGE
+			|| accessor.getHeader(RELAYED_HEADER) != null
+			|| !(message.getPayload() instanceof byte[] payload)) {
+			return message;
+		}
+
+		Long meetingId = meetingIdOf(accessor.getDestination());
+		if (meetingId == null) {
+			return message;
+		}
+
+		try {
+			byte[] frame = encode(nodeId, accessor.getDestination(), accessor.getContentType(), payload);
+			stringRedisTemplate.execute(connection ->
+				connection.publish(channelOf(meetingId).getBytes(StandardCharsets.UTF_8), frame), true);
+		} catch (Exception e) {
+			// Redis 장애 시에도 로컬 구독자 전달은 계속
+			log.error("브로커 브리지 발행 실패 - destination: {}", accessor.getDestination(), e);
+		}
+		return message;
+	}
+
+	// ===== 수신: 다른 노드가 발행한 메시지를 로컬 브로커로 전달 =====
+
+	@Override
+	public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+		Frame frame = decode(message.getBody());
+		if (nodeId.equals(frame.nodeId())) {
+			return;
+		}
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(frame.destination());
+		if (frame.contentType() != null) {
+			accessor.setContentType(frame.contentType());
+		}
+		accessor.setHeader(RELAYED_HEADER, true);
+		accessor.setLeaveMutable(true);
+
+		brokerChannel.send(MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+	}
+
+	// ===== 미팅 채널 구독 관리 (세션 수 기준) =====
+
+	@EventListener
+	public void handleConnect(SessionConnectedEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		Message<?> connectMessage = (Message<?>)accessor.getHeader(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+		if (connectMessage == null) {
+			return;
+		}
+
+		Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(connectMessage.getHeaders());
+		Long meetingId = attributes != null ? (Long)attributes.get("meetingId") : null;
+		if (meetingId == null || sessionMeetings.putIfAbsent(accessor.getSessionId(), meetingId) != null) {
+			return;
+		}
+
+		meetingSessionCounts.compute(meetingId, (id, count) -> {
+			if (count == null) {
+				listenerContainer.addMessageListener(this, new ChannelTopic(channelOf(id)));
+				log.debug("브로커 브리지 채널 구독 - meetingId: {}", id);
+				return new AtomicInteger(1);
+			}
+			count.incrementAndGet();
+			return count;
+		});
+	}
+
+	@EventListener
+	public void handleDisconnect(SessionDisconnectEvent event) {
+		Long meetingId = sessionMeetings.remove(event.getSessionId());
+		if (meetingId == null) {
+			return; // 중복 disconnect 이벤트
+		}
+
+		meetingSessionCounts.computeIfPresent(meetingId, (id, count) -> {
+			if (count.decrementAndGet() > 0) {
+				return count;
+			}
+			listenerContainer.removeMessageListener(this, new ChannelTopic(channelOf(id)));
+			log.debug("브로커 브리지 채널 구독 해제 - meetingId: {}", id);
+			return null;
+		});
+	}
+
+	// ===== 채널/프레임 =====
+
+	static Long meetingIdOf(String destination) {
+		if (destination == null) {
+			return null;
+		}
+		Matcher matcher = MEETING_TOPIC_PATTERN.matcher(destination);
+		return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+	}
+
+	static String channelOf(Long meetingId) {
+		return CHANNEL_PREFIX + meetingId;
+	}
+
+	record Frame(String nodeId, String destination, MimeType contentType, byte[] payload) {
+	}
+
+	// [nodeId][destination][contentType 또는 ""][payload 길이][payload]
+	static byte[] encode(String nodeId, String destination, MimeType contentType, byte[] payload) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 96);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeUTF(nodeId);
+			out.writeUTF(destination);
+			out.writeUTF(contentType != null ? contentType.toString() : "");
+			out.writeInt(payload.length);
+			out.write(payload);
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Frame decode(byte[] frame) {
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+			String nodeId = in.readUTF();
+			String destination = in.readUTF();
+			String contentType = in.readUTF();
+			byte[] payload = new byte[in.readInt()];
+			in.readFully(payload);
+			return new Frame(nodeId, destination,
+				contentType.isEmpty() ? null : MimeType.valueOf(contentType), payload);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
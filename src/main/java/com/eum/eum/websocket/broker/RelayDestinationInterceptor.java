@@ -0,0 +1,44 @@
+package com.eum.eum.websocket.broker;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 STOMP 브로커 목적지 변환 (websocket.broker.mode=relay)
+ * RabbitMQ STOMP는 /topic, /queue, /exchange 등 정해진 prefix만 허용하므로
+ * 앱/클라이언트가 쓰는 /sub/... 목적지를 브로커로 넘기기 직전에 /topic/... 으로 바꾼다
+ *
+ *   /sub/meeting/1/location  ->  /topic/meeting.1.location   (RabbitMQ 라우팅 키 구분자는 '.')
+ *
+ * - clientInboundChannel: 클라이언트 SUBSCRIBE (JwtStompInterceptor 검증/압축 변환 이후)
+ * - brokerChannel: 서버 발행 (SimpMessagingTemplate, user destination 변환 결과 포함)
+ * 클라이언트는 subscription id로 MESSAGE를 받으므로 목적지가 바뀌어도 기존 콜백으로 수신
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "relay")
+public class RelayDestinationInterceptor implements ChannelInterceptor {
+	public static final String APP_PREFIX = "/sub/";
+	public static final String BROKER_PREFIX = "/topic/";
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		// native destination 헤더까지 함께 바꿔야 릴레이가 STOMP 프레임을 만들 때 원래 경로로 되돌아가지 않음
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+		String destination = accessor.getDestination();
+		if (destination == null || !destination.startsWith(APP_PREFIX)) {
+			return message;
+		}
+
+		accessor.setDestination(toBrokerDestination(destination));
+		return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+	}
+
+	public static String toBrokerDestination(String destination) {
+		return BROKER_PREFIX + destination.substring(APP_PREFIX.length()).replace('/', '.');
+	}
+}
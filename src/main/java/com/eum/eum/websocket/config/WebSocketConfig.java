@@ -1,6 +1,11 @@
 package com.eum.eum.websocket.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
@@ -9,8 +14,12 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 import com.eum.eum.common.config.TaskConfig;
+import com.eum.eum.websocket.broker.RedisBrokerBridge;
+import com.eum.eum.websocket.broker.RelayDestinationInterceptor;
+import com.eum.eum.websocket.converter.LocationCompactMessageConverter;
 import com.eum.eum.websocket.handler.StompErrorHandler;
 import com.eum.eum.websocket.interceptor.JwtStompInterceptor;
+import com.eum.eum.websocket.interceptor.QueryCountStompInterceptor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,8 +36,31 @@ import lombok.RequiredArgsConstructor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final JwtStompInterceptor jwtStompInterceptor;
+	private final QueryCountStompInterceptor queryCountStompInterceptor;
 	private final StompErrorHandler stompErrorHandler;
 	private final TaskScheduler heartbeatScheduler;
+	private final ObjectProvider<RedisBrokerBridge> redisBrokerBridge;
+	private final ObjectProvider<RelayDestinationInterceptor> relayDestinationInterceptor;
+
+	// simple: 노드 로컬 SimpleBroker (단일 인스턴스)
+	// redis: SimpleBroker + Redis Pub/Sub 브리지 (미팅별 채널 샤딩)
+	// relay: 외부 STOMP 브로커 (RabbitMQ/ActiveMQ 등) 릴레이
+	//        클라이언트/서버는 /sub/... 를 그대로 쓰고, 브로커로 넘기기 직전에 /topic/... 으로 변환
+	//        (RelayDestinationInterceptor - RabbitMQ STOMP가 허용하는 prefix)
+	@Value("${websocket.broker.mode:simple}")
+	private String brokerMode;
+
+	@Value("${websocket.broker.relay.host:localhost}")
+	private String relayHost;
+
+	@Value("${websocket.broker.relay.port:61613}")
+	private int relayPort;
+
+	@Value("${websocket.broker.relay.login:guest}")
+	private String relayLogin;
+
+	@Value("${websocket.broker.relay.passcode:guest}")
+	private String relayPasscode;
 
 	//웹소켓 연결 진입점 설정 (HTTP -> WS 업그레이드 시킬 url)
 	@Override
@@ -42,9 +74,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
-		config.enableSimpleBroker("/sub") //서버 -> 클라이언트로 메시지 보내는 주소 : 클라이언트가 구독하는 주소
-			.setHeartbeatValue(new long[] {10000, 10000}) // 10초마다 heartbeat (서버→클라, 클라→서버)
-			.setTaskScheduler(heartbeatScheduler);
+		if ("relay".equals(brokerMode)) {
+			// 모든 노드가 같은 외부 브로커를 구독 -> 노드 간 fan-out은 브로커가 담당
+			config.enableStompBrokerRelay("/topic")
+				.setRelayHost(relayHost)
+				.setRelayPort(relayPort)
+				.setClientLogin(relayLogin)
+				.setClientPasscode(relayPasscode)
+				.setSystemLogin(relayLogin)
+				.setSystemPasscode(relayPasscode)
+				.setSystemHeartbeatSendInterval(10000)
+				.setSystemHeartbeatReceiveInterval(10000)
+				// 시스템 세션이 브로커에 직접 구독하므로 변환 후 경로로 지정
+				.setUserDestinationBroadcast("/topic/unresolved-user") // 다른 노드 세션의 user destination 전달
+				.setUserRegistryBroadcast("/topic/user-registry");
+		} else {
+			config.enableSimpleBroker("/sub") //서버 -> 클라이언트로 메시지 보내는 주소 : 클라이언트가 구독하는 주소
+				.setHeartbeatValue(new long[] {10000, 10000}) // 10초마다 heartbeat (서버→클라, 클라→서버)
+				.setTaskScheduler(heartbeatScheduler);
+		}
 		//브로커 역할을 하는 경량 메시지 큐를 활성화
 		// 클라이언트: "/pub/room/1" 구독
 		// 서버: 해당 구독자들에게 메시지 브로드캐스트
@@ -53,6 +101,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
-		registration.interceptors(jwtStompInterceptor);
+		registration.interceptors(jwtStompInterceptor, queryCountStompInterceptor);
+		// relay 모드: 검증/압축 변환이 끝난 구독 목적지를 브로커 목적지로 변환 (마지막에 실행)
+		relayDestinationInterceptor.ifAvailable(registration::interceptors);
+	}
+
+	// redis 모드: 로컬 브로커로 가는 메시지를 다른 노드에도 전파
+	// relay 모드: 서버 발행 목적지를 브로커 목적지로 변환
+	@Override
+	public void configureBrokerChannel(ChannelRegistration registration) {
+		redisBrokerBridge.ifAvailable(registration::interceptors);
+		relayDestinationInterceptor.ifAvailable(registration::interceptors);
+	}
+
+	// 위치 압축 포맷 컨버터 추가 (content-type이 일치할 때만 동작, 나머지는 기본 Jackson 컨버터)
+	@Override
+	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+		messageConverters.add(new LocationCompactMessageConverter());
+		return true; // 기본 컨버터도 유지
 	}
 }
@@ -0,0 +1,16 @@
+package com.eum.eum.websocket.converter;
+
+/**
+ * CONNECT 시 압축 포맷 협상 관련 상수
+ * 클라이언트가 CONNECT 헤더에 accept-payload: compact 를 보내면
+ * 해당 세션의 /sub/meeting/{id}/location 구독은 /sub/meeting/{id}/location/compact 로 바뀐다
+ */
+public final class CompactPayloadNegotiation {
+	private CompactPayloadNegotiation() {
+	}
+
+	public static final String CONNECT_HEADER = "accept-payload";
+	public static final String COMPACT = "compact";
+	public static final String SESSION_ATTRIBUTE = "compactPayload";
+	public static final String DESTINATION_SUFFIX = "/compact";
+}
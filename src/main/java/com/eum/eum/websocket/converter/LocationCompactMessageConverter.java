@@ -0,0 +1,89 @@
+package com.eum.eum.websocket.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeType;
+
+import com.eum.eum.location.dto.LocationResponseDto;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * 위치 브로드캐스트 전용 압축 포맷 컨버터
+ * SockJS는 텍스트 프레임만 안정적으로 지원하므로 바이너리 대신 고정 순서 JSON 배열을 사용한다
+ *
+ * [meetingUserId, lat, lng, movedAt, status, arrived, "message"]
+ * - movedAt: LocalDateTime 벽시계 값을 UTC 기준 epoch 초로 (null이면 0)
+ * - status: MovementStatus ordinal (PENDING=0, MOVING=1, ARRIVED=2, PAUSED=3, null이면 -1)
+ * - arrived: 1/0
+ * - message: 있을 때만 마지막에 붙는다
+ * 묶음 전송(List)은 위 배열들의 배열: [[...],[...]]
+ *
+ * content-type 헤더가 {@link #MIME_TYPE}인 메시지에만 적용 (strictContentTypeMatch)
+ * Jackson 트리/리플렉션 없이 StringBuilder 한 번으로 직렬화
+ */
+public class LocationCompactMessageConverter extends AbstractMessageConverter {
+	public static final MimeType MIME_TYPE = new MimeType("application", "vnd.eum.location-compact+json",
+		StandardCharsets.UTF_8);
+
+	public LocationCompactMessageConverter() {
+		super(MIME_TYPE);
+		setStrictContentTypeMatch(true);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return LocationResponseDto.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+		// 서버 → 클라이언트 단방향 포맷
+		return false;
+	}
+
+	@Override
+	protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+		if (payload instanceof LocationResponseDto dto) {
+			return encode(dto).getBytes(StandardCharsets.UTF_8);
+		}
+
+		List<?> list = (List<?>)payload;
+		StringBuilder sb = new StringBuilder(list.size() * 64 + 2).append('[');
+		for (int i = 0; i < list.size(); i++) {
+			if (!(list.get(i) instanceof LocationResponseDto dto)) {
+				return null; // 위치 목록이 아니면 다른 컨버터에 넘김
+			}
+			if (i > 0) {
+				sb.append(',');
+			}
+			append(dto, sb);
+		}
+		return sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	public static String encode(LocationResponseDto dto) {
+		return append(dto, new StringBuilder(64)).toString();
+	}
+
+	private static StringBuilder append(LocationResponseDto dto, StringBuilder sb) {
+		sb.append('[')
+			.append(dto.getMeetingUserId()).append(',')
+			.append(dto.getLat()).append(',')
+			.append(dto.getLng()).append(',')
+			.append(dto.getMovedAt() == null ? 0 : dto.getMovedAt().toEpochSecond(ZoneOffset.UTC)).append(',')
+			.append(dto.getMovementStatus() == null ? -1 : dto.getMovementStatus().ordinal()).append(',')
+			.append(Boolean.TRUE.equals(dto.getIsArrived()) ? 1 : 0);
+
+		if (dto.getMessage() != null) {
+			sb.append(",\"");
+			JsonStringEncoder.getInstance().quoteAsString(dto.getMessage(), sb);
+			sb.append('"');
+		}
+		return sb.append(']');
+	}
+}
@@ -7,6 +7,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +19,8 @@ import com.eum.eum.common.exception.BusinessException;
 import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
 import com.eum.eum.security.jwt.JwtTokenProvider;
 import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.websocket.converter.CompactPayloadNegotiation;
+import com.eum.eum.websocket.session.LocationSubscriptionRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +32,10 @@ public class JwtStompInterceptor implements ChannelInterceptor {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserDetailsService userDetailsService;
 	private final MeetingUserRepository meetingUserRepository;
+	private final LocationSubscriptionRegistry locationSubscriptionRegistry;
 
 	private static final Pattern MEETING_ID_PATTERN = Pattern.compile("/(?:sub|pub)/meeting/(\\d+)/");
+	private static final Pattern LOCATION_TOPIC_PATTERN = Pattern.compile("^/sub/meeting/(\\d+)/location$");
 
 	@Override
 	public Message<?> preSend(
@@ -80,6 +85,12 @@ public class JwtStompInterceptor implements ChannelInterceptor {
 
 					accessor.getSessionAttributes().put("meetingId", meetingId);
 
+					// 위치 브로드캐스트 압축 포맷 협상
+					if (CompactPayloadNegotiation.COMPACT.equals(
+						accessor.getFirstNativeHeader(CompactPayloadNegotiation.CONNECT_HEADER))) {
+						accessor.getSessionAttributes().put(CompactPayloadNegotiation.SESSION_ATTRIBUTE, true);
+					}
+
 					log.info("WebSocket 인증 성공 - User: {}, SessionId: {}",
 						username, accessor.getSessionId());
 				} catch (BusinessException e) {
@@ -123,6 +134,10 @@ public class JwtStompInterceptor implements ChannelInterceptor {
 						throw new BusinessException(ErrorCode.ACCESS_DENIED);
 					}
 				}
+				trackLocationSubscription(accessor);
+				return rewriteToCompactIfNegotiated(message, accessor);
+			case UNSUBSCRIBE:
+				locationSubscriptionRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
 				break;
 			case null:
 				break;
@@ -132,6 +147,44 @@ public class JwtStompInterceptor implements ChannelInterceptor {
 		return message;
 	}
 
+	/**
+	 * 위치 토픽 구독을 포맷(JSON/압축)별로 기록 -> 구독자가 없는 포맷은 브로드캐스트하지 않음
+	 * 해제는 UNSUBSCRIBE, 연결 종료(WebSocketEventListener)에서 처리
+	 */
+	private void trackLocationSubscription(StompHeaderAccessor accessor) {
+		String destination = accessor.getDestination();
+		if (destination == null) {
+			return;
+		}
+		Matcher matcher = LOCATION_TOPIC_PATTERN.matcher(destination);
+		if (!matcher.matches()) {
+			return;
+		}
+
+		boolean compact = Boolean.TRUE.equals(
+			accessor.getSessionAttributes().get(CompactPayloadNegotiation.SESSION_ATTRIBUTE));
+		locationSubscriptionRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+			Long.parseLong(matcher.group(1)), compact);
+	}
+
+	/**
+	 * 압축 포맷을 협상한 세션이면 위치 토픽 구독을 압축 토픽으로 변경
+	 * (클라이언트는 subscription id로 프레임을 받으므로 경로가 바뀌어도 기존 콜백으로 수신)
+	 */
+	private Message<?> rewriteToCompactIfNegotiated(Message<?> message, StompHeaderAccessor accessor) {
+		String destination = accessor.getDestination();
+		if (destination == null || !LOCATION_TOPIC_PATTERN.matcher(destination).matches()) {
+			return message;
+		}
+		if (!Boolean.TRUE.equals(accessor.getSessionAttributes().get(CompactPayloadNegotiation.SESSION_ATTRIBUTE))) {
+			return message;
+		}
+
+		StompHeaderAccessor rewritten = StompHeaderAccessor.wrap(message);
+		rewritten.setDestination(destination + CompactPayloadNegotiation.DESTINATION_SUFFIX);
+		return MessageBuilder.createMessage(message.getPayload(), rewritten.getMessageHeaders());
+	}
+
 	/**
 	 * 구독/발행 경로의 meetingId가 세션에 저장된 meetingId와 일치하는지 검증
 	 */
@@ -0,0 +1,50 @@
+package com.eum.eum.websocket.interceptor;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import com.eum.eum.common.query.QueryCount;
+import com.eum.eum.common.query.QueryCountHolder;
+import com.eum.eum.common.query.QueryCountMetrics;
+import com.eum.eum.common.query.QueryCountMetrics.Scope;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 메시지 단위 쿼리 집계 (@MessageMapping 처리 스레드에서 시작/종료)
+ * 인바운드 채널은 핸들러(브로커, user destination 등)마다 beforeHandle이 불리므로
+ * DB를 쓰는 어노테이션 핸들러만 집계한다
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountStompInterceptor implements ExecutorChannelInterceptor {
+	private final QueryCountMetrics queryCountMetrics;
+
+	@Override
+	public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+		if (handler instanceof SimpAnnotationMethodMessageHandler) {
+			QueryCountHolder.start();
+		}
+		return message;
+	}
+
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+		Exception ex) {
+		if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+			return;
+		}
+		QueryCount count = QueryCountHolder.current();
+		if (count == null) {
+			return;
+		}
+		QueryCountHolder.end(count);
+		queryCountMetrics.record(Scope.STOMP, String.valueOf(SimpMessageHeaderAccessor.getDestination(
+			message.getHeaders())), count);
+	}
+}
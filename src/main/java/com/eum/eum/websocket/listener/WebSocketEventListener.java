@@ -12,8 +12,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import com.eum.eum.location.service.LocationIngestFilter;
 import com.eum.eum.location.service.LocationSharingService;
 import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.websocket.session.LocationSubscriptionRegistry;
 import com.eum.eum.websocket.session.WebSocketSessionRegistry;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,8 @@ public class WebSocketEventListener {
 	private final SimpMessagingTemplate messagingTemplate;
 	private final WebSocketSessionRegistry sessionRegistry;
 	private final LocationSharingService locationSharingService;
+	private final LocationSubscriptionRegistry locationSubscriptionRegistry;
+	private final LocationIngestFilter locationIngestFilter;
 
 	//연결시 기존 세션 확인 및 kick 메세지 전송
 	@EventListener
@@ -68,6 +72,11 @@ public class WebSocketEventListener {
 	public void handleDisconnect(SessionDisconnectEvent event) {
 		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
 
+		// 위치 토픽 구독 정리 (UNSUBSCRIBE 없이 끊긴 경우 포함)
+		locationSubscriptionRegistry.removeSession(event.getSessionId());
+		// 위치 수신 필터의 세션 상태 정리
+		locationIngestFilter.forget(event.getSessionId());
+
 		Authentication auth = (Authentication) accessor.getUser();
 		if (auth == null) {
 			return;
@@ -81,7 +90,7 @@ public class WebSocketEventListener {
 		Long meetingId = sessionAttributes != null ? (Long) sessionAttributes.get("meetingId") : null;
 
 		// 세션 해제
-		sessionRegistry.unregister(username);
+		sessionRegistry.unregister(username, event.getSessionId());
 
 		// 연결이 끊긴 사용자의 위치 공유 자동 정리
 		if (meetingId != null) {
@@ -0,0 +1,75 @@
+package com.eum.eum.websocket.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드의 위치 토픽 구독 현황 (미팅별 JSON / 압축 구독 수)
+ * LocationBroadcaster가 구독자가 없는 포맷은 직렬화/전송하지 않도록 사용
+ *
+ * simple 모드에서만 추적 결과를 사용한다
+ * redis/relay 모드는 다른 노드(또는 외부 브로커)의 구독자를 알 수 없으므로 항상 두 포맷 모두 전송
+ */
+@Component
+public class LocationSubscriptionRegistry {
+
+	private record Subscription(Long meetingId, boolean compact) {
+	}
+
+	private final boolean localBrokerOnly;
+
+	// sessionId -> (subscriptionId -> 구독), 세션 안의 Map은 compute 안에서만 변경
+	private final ConcurrentHashMap<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+	// 구독 -> 구독 수
+	private final ConcurrentHashMap<Subscription, Integer> counts = new ConcurrentHashMap<>();
+
+	public LocationSubscriptionRegistry(@Value("${websocket.broker.mode:simple}") String brokerMode) {
+		this.localBrokerOnly = "simple".equals(brokerMode);
+	}
+
+	public void subscribe(String sessionId, String subscriptionId, Long meetingId, boolean compact) {
+		Subscription subscription = new Subscription(meetingId, compact);
+		sessions.compute(sessionId, (id, subscriptions) -> {
+			Map<String, Subscription> current = subscriptions != null ? subscriptions : new ConcurrentHashMap<>();
+			Subscription previous = current.put(subscriptionId, subscription);
+			if (previous != null) {
+				decrement(previous);
+			}
+			counts.merge(subscription, 1, Integer::sum);
+			return current;
+		});
+	}
+
+	public void unsubscribe(String sessionId, String subscriptionId) {
+		sessions.computeIfPresent(sessionId, (id, subscriptions) -> {
+			Subscription removed = subscriptions.remove(subscriptionId);
+			if (removed != null) {
+				decrement(removed);
+			}
+			return subscriptions.isEmpty() ? null : subscriptions;
+		});
+	}
+
+	// 연결 종료 시 세션의 구독 전체 해제 (UNSUBSCRIBE 없이 끊긴 경우 포함)
+	public void removeSession(String sessionId) {
+		Map<String, Subscription> removed = sessions.remove(sessionId);
+		if (removed != null) {
+			removed.values().forEach(this::decrement);
+		}
+	}
+
+	public boolean hasJsonSubscribers(Long meetingId) {
+		return !localBrokerOnly || counts.containsKey(new Subscription(meetingId, false));
+	}
+
+	public boolean hasCompactSubscribers(Long meetingId) {
+		return !localBrokerOnly || counts.containsKey(new Subscription(meetingId, true));
+	}
+
+	private void decrement(Subscription subscription) {
+		counts.computeIfPresent(subscription, (key, count) -> count > 1 ? count - 1 : null);
+	}
+}
@@ -3,6 +3,8 @@ package com.eum.eum.websocket.session;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,10 @@ public class WebSocketSessionRegistry {
 	private final RedisTemplate<String, Object> redisTemplate;
 	private static final Duration SESSION_TTL = Duration.ofHours(1);
 
+	// 이 노드에 연결된 세션 ID (메트릭용, Redis 세션 정보는 전체 노드 공용)
+	// 사용자 기준이면 재접속 직후 이전 세션이 끊길 때 새 세션까지 빠지므로 세션 ID로 관리
+	private final Set<String> localSessions = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * WebSocket 세션 등록
 	 */
@@ -36,6 +42,7 @@ public class WebSocketSessionRegistry {
 
 		redisTemplate.opsForHash().putAll(key, sessionData);
 		redisTemplate.expire(key, SESSION_TTL);
+		localSessions.add(sessionId);
 
 		log.info("WebSocket 세션 등록 - User: {}, SessionId: {}, MeetingId: {}",
 			username, sessionId, meetingId);
@@ -75,9 +82,10 @@ public class WebSocketSessionRegistry {
 	/**
 	 * WebSocket 세션 해제
 	 */
-	public void unregister(String username) {
+	public void unregister(String username, String sessionId) {
 		Map<String, String> session = getSession(username);
 		redisTemplate.delete(redisKey(username));
+		localSessions.remove(sessionId);
 
 		if (session != null) {
 			log.info("WebSocket 세션 해제 - User: {}, SessionId: {}, MeetingId: {}",
@@ -85,6 +93,13 @@ public class WebSocketSessionRegistry {
 		}
 	}
 
+	/**
+	 * 이 노드의 활성 세션 수
+	 */
+	public int localSessionCount() {
+		return localSessions.size();
+	}
+
 	private String redisKey(String username) {
 		return "ws:session:" + username;
 	}
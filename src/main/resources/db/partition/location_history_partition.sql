@@ -0,0 +1,68 @@
+-- location_history 를 moved_at 기준 일 단위 파티션 테이블로 전환 (PostgreSQL 전용, 1회 수동 실행)
+-- 이후 파티션 생성/삭제는 LocationHistoryPartitionManager 가 담당한다
+-- 파티션 테이블의 PK/UNIQUE 는 파티션 키를 포함해야 하므로 PK = (id, moved_at)
+
+BEGIN;
+
+ALTER TABLE location_history RENAME TO location_history_legacy;
+
+CREATE SEQUENCE IF NOT EXISTS location_history_id_seq;
+SELECT setval('location_history_id_seq', COALESCE((SELECT MAX(id) FROM location_history_legacy), 0) + 1, false);
+
+CREATE TABLE location_history (
+    id              BIGINT       NOT NULL DEFAULT nextval('location_history_id_seq'),
+    meeting_id      BIGINT,
+    meeting_user_id BIGINT,
+    lat             DOUBLE PRECISION,
+    lng             DOUBLE PRECISION,
+    moved_at        TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6),
+    modified_at     TIMESTAMP(6),
+    status          VARCHAR(255),
+    PRIMARY KEY (id, moved_at)
+) PARTITION BY RANGE (moved_at);
+
+ALTER SEQUENCE location_history_id_seq OWNED BY location_history.id;
+
+-- 파티션마다 자동 생성되는 경로 조회 커버링 인덱스 (lat/lng 포함 -> 경로 조회 시 힙 접근 없이 Index Only Scan)
+CREATE INDEX idx_location_history_route ON location_history (meeting_id, meeting_user_id, moved_at) INCLUDE (lat, lng);
+
+-- 기존 데이터 구간 ~ 3일 후까지 일 단위 파티션 생성 (이름: location_history_pYYYYMMDD)
+DO $$
+DECLARE
+    d DATE := COALESCE((SELECT MIN(moved_at)::date FROM location_history_legacy), CURRENT_DATE);
+BEGIN
+    WHILE d <= CURRENT_DATE + 3 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS location_history_p%s PARTITION OF location_history FOR VALUES FROM (%L) TO (%L)',
+            to_char(d, 'YYYYMMDD'), d, d + 1);
+        d := d + 1;
+    END LOOP;
+END $$;
+
+-- 파티션 범위를 벗어난 행(시계 오차 등) 보호용
+CREATE TABLE location_history_default PARTITION OF location_history DEFAULT;
+
+-- moved_at 이 비어 있으면 created_at 으로 대체, 참여자가 삭제된 행은 meeting_id 없이 보존
+INSERT INTO location_history (id, meeting_id, meeting_user_id, lat, lng, moved_at, created_at, modified_at, status)
+SELECT lh.id, mu.meeting_id, lh.meeting_user_id, lh.lat, lh.lng, COALESCE(lh.moved_at, lh.created_at),
+       lh.created_at, lh.modified_at, lh.status
+FROM location_history_legacy lh
+LEFT JOIN tb_meeting_user mu ON mu.id = lh.meeting_user_id
+WHERE COALESCE(lh.moved_at, lh.created_at) IS NOT NULL;
+
+-- 모든 행이 옮겨졌을 때만 기존 테이블 삭제, 아니면 남겨두고 수동 확인 (DROP TABLE location_history_legacy)
+DO $$
+DECLARE
+    legacy_count BIGINT := (SELECT COUNT(*) FROM location_history_legacy);
+    copied_count BIGINT := (SELECT COUNT(*) FROM location_history);
+BEGIN
+    IF copied_count = legacy_count THEN
+        DROP TABLE location_history_legacy;
+    ELSE
+        RAISE WARNING 'location_history 이관 건수 불일치 (legacy: %, copied: %) - location_history_legacy 를 보존합니다',
+            legacy_count, copied_count;
+    END IF;
+END $$;
+
+COMMIT;
@@ -0,0 +1,16 @@
+-- dirty set을 처리 중 set으로 옮김 (배치 처리 잠금 획득 시에만)
+-- 처리 중 set은 배치 성공 후에만 삭제 -> 처리 도중 노드가 죽어도 다음 배치에서 다시 처리
+-- KEYS[1] location:dirty   KEYS[2] location:dirty:processing   KEYS[3] location:dirty:lock
+-- ARGV[1] 잠금 토큰  ARGV[2] 잠금 만료(ms)
+-- 반환: 처리 중 set 크기, 다른 노드가 처리 중이면 -1
+
+if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return -1
+end
+
+-- 이전 배치가 끝내지 못한 목록이 남아 있으면 새 목록과 합침
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('SUNIONSTORE', KEYS[2], KEYS[2], KEYS[1])
+    redis.call('DEL', KEYS[1])
+end
+return redis.call('SCARD', KEYS[2])
@@ -0,0 +1,14 @@
+-- 배치 처리 잠금 해제 (+ 성공 시 처리 중 set 삭제)
+-- 잠금이 만료돼 다른 노드가 가져갔으면 아무것도 하지 않음
+-- KEYS[1] location:dirty:processing   KEYS[2] location:dirty:lock
+-- ARGV[1] 잠금 토큰  ARGV[2] 처리 중 set 삭제 여부 (1: 성공, 0: 실패 -> 다음 배치에서 재처리)
+
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+
+if ARGV[2] == '1' then
+    redis.call('DEL', KEYS[1])
+end
+redis.call('DEL', KEYS[2])
+return 1
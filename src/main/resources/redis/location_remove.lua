@@ -0,0 +1,24 @@
+-- 위치 삭제 + 삭제 기록(tombstone)
+-- KEYS[1] location:meeting:{id}   KEYS[2] location:seq:{id}   KEYS[3] location:geo:{id}
+-- ARGV[1] hashKey(user:{userId})  ARGV[2] TTL(초)  ARGV[3] 현재 시각(ms, 버전 시작값)
+
+redis.call('ZREM', KEYS[3], ARGV[1])
+
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+    return 0
+end
+redis.call('HDEL', KEYS[1], ARGV[1])
+
+redis.call('HSETNX', KEYS[2], '_base', ARGV[3])
+redis.call('HSETNX', KEYS[2], '_version', ARGV[3])
+local version = redis.call('HINCRBY', KEYS[2], '_version', 1)
+redis.call('HDEL', KEYS[2], ARGV[1])
+
+-- 클라이언트는 meetingUserId로 마커를 관리하므로 삭제 기록도 meetingUserId 기준
+local ok, decoded = pcall(cjson.decode, current)
+if ok and type(decoded) == 'table' and type(decoded['meetingUserId']) == 'number' then
+    redis.call('HSET', KEYS[2], 'removed:' .. string.format('%d', decoded['meetingUserId']), version)
+end
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+return version
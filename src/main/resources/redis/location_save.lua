@@ -0,0 +1,35 @@
+-- 위치 저장 + 미팅 버전 증가 (원자적으로 1회 왕복)
+-- KEYS[1] location:meeting:{id}   위치 해시
+-- KEYS[2] location:seq:{id}       버전 해시 (_base: 시작 버전, _version: 현재 버전,
+--                                  user:{userId} -> 변경 버전, removed:{meetingUserId} -> 삭제 버전)
+-- KEYS[3] location:dirty          배치 대상 set
+-- KEYS[4] location:geo:{id}       GEO 인덱스 (member: user:{userId})
+-- ARGV[1] hashKey(user:{userId})  ARGV[2] 위치 JSON  ARGV[3] TTL(초)
+-- ARGV[4] dirty member            ARGV[5] 현재 시각(ms, 버전 시작값)  ARGV[6] meetingUserId
+-- ARGV[7] 경도  ARGV[8] 위도 (GEO 인덱스를 쓰지 않으면 빈 문자열)
+
+-- GEOADD가 거부할 좌표면 쓰기 전에 GEO만 건너뜀 (HSET 후 실패해 일부만 반영되는 것 방지)
+local lng = tonumber(ARGV[7])
+local lat = tonumber(ARGV[8])
+local geo = lng ~= nil and lat ~= nil
+    and lng >= -180 and lng <= 180 and lat >= -85.05112878 and lat <= 85.05112878
+
+-- 버전 키가 만료 후 재생성돼도 이전 버전보다 작아지지 않도록 시각(ms)에서 시작
+redis.call('HSETNX', KEYS[2], '_base', ARGV[5])
+redis.call('HSETNX', KEYS[2], '_version', ARGV[5])
+local version = redis.call('HINCRBY', KEYS[2], '_version', 1)
+redis.call('HSET', KEYS[2], ARGV[1], version)
+if ARGV[6] ~= '' then
+    redis.call('HDEL', KEYS[2], 'removed:' .. ARGV[6])
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+redis.call('SADD', KEYS[3], ARGV[4])
+
+if geo then
+    redis.call('GEOADD', KEYS[4], ARGV[7], ARGV[8], ARGV[1])
+    redis.call('EXPIRE', KEYS[4], ARGV[3])
+end
+return version
@@ -26,11 +26,36 @@ import { showModal, hideModal } from '../ui/modal.js';
 // Sub-modules
 import { connectWebSocket, disconnectWebSocket, resetReconnectionState, setExitHandler } from './realtime/websocket.js';
 import { startLocationUpdates, stopLocationUpdates, setOnLocationStarted } from './realtime/location.js';
-import { initRealtimeMap, displayInitialMemberMarkers, updateMemberLocation } from './realtime/realtimeMap.js';
+import { initRealtimeMap, displayInitialMemberMarkers, updateMemberLocation, removeMemberLocation } from './realtime/realtimeMap.js';
 import { renderRealtimeMemberList } from './realtime/memberList.js';
 import { initEmojiAndPokeListeners, toggleEmojiPopup, showEmojiBubbleOnMarker, showEmojiOnAvatar } from './realtime/emoji.js';
 import { startNavigationRoute, clearNavigationRoute } from './realtime/navigation.js';
 
+// 실시간 위치를 받은 참여자 (전체 스냅샷에 없으면 위치 공유가 끝난 것으로 보고 마커 제거)
+// 페이지 진입 시 DB 마지막 위치로 그린 마커는 대상 아님
+let liveMeetingUserIds = new Set();
+
+// Apply initial/reconnect location snapshot
+function applyLocationSnapshot({ full, locations, removedMeetingUserIds }) {
+    if (full) {
+        const present = new Set(locations.map(loc => String(loc.meetingUserId)));
+        liveMeetingUserIds.forEach(id => {
+            if (!present.has(id)) removeMemberLocation(Number(id));
+        });
+        liveMeetingUserIds = present;
+    }
+
+    removedMeetingUserIds.forEach(id => {
+        removeMemberLocation(id);
+        liveMeetingUserIds.delete(String(id));
+    });
+
+    locations.forEach(loc => {
+        updateMemberLocation(loc);
+        liveMeetingUserIds.add(String(loc.meetingUserId));
+    });
+}
+
 // Forward declaration for showPage
 let showPageHandler = null;
 
@@ -91,6 +116,7 @@ export function initRealtimePage() {
 
     // Reset reconnection state for fresh page entry
     resetReconnectionState();
+    liveMeetingUserIds = new Set();
 
     // Sync currentMeetingUsers from currentMeetingData
     setCurrentMeetingUsers(currentMeetingData.users || []);
@@ -114,17 +140,14 @@ export function initRealtimePage() {
     // Connect WebSocket with callback handlers
     connectWebSocket(currentMeetingId, {
         onLocationUpdate: (locationData) => {
+            if (locationData?.meetingUserId) liveMeetingUserIds.add(String(locationData.meetingUserId));
             const result = updateMemberLocation(locationData);
             if (result?.isCurrentUserArrived) {
                 handleArrivalStop();
             }
         },
         onKick: () => exitRealtimePage(),
-        onInitialData: (initialData) => {
-            if (Array.isArray(initialData)) {
-                initialData.forEach(loc => updateMemberLocation(loc));
-            }
-        },
+        onInitialData: (snapshot) => applyLocationSnapshot(snapshot),
         onPoke: (pokeData) => {
             if (pokeData) {
                 const pokeMessage = pokeData.pokeType === 'URGE'
@@ -117,6 +117,23 @@ export function createMarkerContent(initial, isCurrentUser, isActive) {
     `;
 }
 
+// Remove member marker (위치 공유 종료 - 서버 삭제 기록 또는 전체 스냅샷에 없는 참여자)
+export function removeMemberLocation(meetingUserId) {
+    const marker = realtimeMarkers[meetingUserId];
+    if (marker) {
+        marker.setMap(null);
+        delete realtimeMarkers[meetingUserId];
+    }
+
+    const itemEl = document.querySelector(`.realtime-member-item[data-meeting-user-id="${meetingUserId}"]`);
+    if (itemEl) {
+        itemEl.classList.remove('active');
+        itemEl.classList.add('inactive');
+        itemEl.querySelector('.live-badge')?.remove();
+        itemEl.querySelector('.active-indicator')?.remove();
+    }
+}
+
 // Update member location on map
 export function updateMemberLocation(locationData) {
     if (!locationData || !locationData.meetingUserId) return;
@@ -18,6 +18,48 @@ let reconnectTimeout = null;
 let isReconnecting = false;
 let lastConnectedMeetingId = null;
 
+// 마지막으로 받은 위치 스냅샷 버전 (재접속 시 변경분만 요청)
+let lastLocationVersion = null;
+let lastLocationVersionMeetingId = null;
+
+// 위치 브로드캐스트 압축 포맷 (서버 LocationCompactMessageConverter 와 동일한 순서)
+// [meetingUserId, lat, lng, movedAtEpochSec, statusOrdinal, arrived(1/0), message?]
+const MOVEMENT_STATUSES = ['PENDING', 'MOVING', 'ARRIVED', 'PAUSED'];
+
+function decodeCompactLocation(arr) {
+    return {
+        meetingUserId: arr[0],
+        lat: arr[1],
+        lng: arr[2],
+        movedAt: arr[3] ? new Date(arr[3] * 1000).toISOString().slice(0, 19) : null,
+        movementStatus: arr[4] >= 0 ? MOVEMENT_STATUSES[arr[4]] : null,
+        isArrived: arr[5] === 1,
+        message: arr.length > 6 ? arr[6] : null
+    };
+}
+
+// 위치 프레임 정규화 -> 위치 객체 배열
+// 서버는 미팅별로 모아서 List로 보낸다 (JSON: [{...}], 압축: [[...],[...]])
+// 즉시 전송 모드(flush-interval-ms <= 0)는 단건 (JSON: {...}, 압축: [...])
+function normalizeLocationFrame(raw) {
+    if (!Array.isArray(raw)) return [raw];
+    if (raw.length > 0 && typeof raw[0] === 'number') return [decodeCompactLocation(raw)];
+    return raw.map(item => Array.isArray(item) ? decodeCompactLocation(item) : item);
+}
+
+// 초기/재접속 위치 응답 정규화 -> { full, locations, removedMeetingUserIds }
+// full=false 면 sinceVersion 이후 변경분 (기존 마커에 병합 + 삭제된 참여자 마커 제거)
+function normalizeLocationSnapshot(snapshot) {
+    if (Array.isArray(snapshot)) {
+        return { full: true, locations: snapshot, removedMeetingUserIds: [] };
+    }
+    return {
+        full: snapshot?.full !== false,
+        locations: snapshot?.locations || [],
+        removedMeetingUserIds: snapshot?.removedMeetingUserIds || []
+    };
+}
+
 // External exit handler (set by orchestrator to avoid circular dependency)
 let exitHandler = null;
 
@@ -65,7 +107,8 @@ export function connectWebSocket(meetingId, callbacks) {
 
     const headers = {
         'Authorization': `Bearer ${accessToken}`,
-        'meetingId': meetingId.toString()
+        'meetingId': meetingId.toString(),
+        'accept-payload': 'compact'
     };
 
     client.connect(headers, function(frame) {
@@ -79,12 +122,14 @@ export function connectWebSocket(meetingId, callbacks) {
 
         // 1. Subscribe to realtime location (broadcast)
         client.subscribe(`/sub/meeting/${meetingId}/location`, function(message) {
-            const locationData = JSON.parse(message.body);
-            console.log('Location update received:', locationData);
-            if (locationData.message) {
-                showToast(locationData.message, 'success');
-            }
-            if (onLocationUpdate) onLocationUpdate(locationData);
+            const locations = normalizeLocationFrame(JSON.parse(message.body));
+            locations.forEach(locationData => {
+                console.log('Location update received:', locationData);
+                if (locationData.message) {
+                    showToast(locationData.message, 'success');
+                }
+                if (onLocationUpdate) onLocationUpdate(locationData);
+            });
         });
 
         // 2. Subscribe to kick notification
@@ -99,9 +144,14 @@ export function connectWebSocket(meetingId, callbacks) {
 
         // 3. Subscribe to initial user location (personal)
         client.subscribe(`/user/sub/meeting/${meetingId}/location`, function(message) {
-            const initialData = JSON.parse(message.body);
-            console.log('Initial location data:', initialData);
-            if (onInitialData) onInitialData(initialData);
+            const snapshot = JSON.parse(message.body);
+            console.log('Initial location data:', snapshot);
+            // { version, full, locations, removedMeetingUserIds }
+            if (snapshot && snapshot.version != null) {
+                lastLocationVersion = snapshot.version;
+                lastLocationVersionMeetingId = meetingId;
+            }
+            if (onInitialData) onInitialData(normalizeLocationSnapshot(snapshot));
         });
 
         // 4. Subscribe to poke broadcast
@@ -116,8 +166,9 @@ export function connectWebSocket(meetingId, callbacks) {
             if (onEmoji) onEmoji(emojiData);
         });
 
-        // 6. Request initial data
-        client.send(`/pub/meeting/${meetingId}/init`, {}, '{}');
+        // 6. Request initial data (재접속이면 마지막 버전 이후 변경분만)
+        const sinceVersion = lastLocationVersionMeetingId === meetingId ? lastLocationVersion : null;
+        client.send(`/pub/meeting/${meetingId}/init`, {}, JSON.stringify({ sinceVersion }));
 
         if (onConnected) onConnected();
     }, function(error) {
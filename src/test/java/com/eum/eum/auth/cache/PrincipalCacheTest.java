@@ -0,0 +1,101 @@
+package com.eum.eum.auth.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.eum.eum.auth.event.PrincipalChangedEvent;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.entity.UserRole;
+import com.eum.eum.user.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalCache 단위 테스트")
+class PrincipalCacheTest {
+
+	private static final String EMAIL = "test@test.com";
+	private static final Date ISSUED_AT = new Date(1_700_000_000_000L);
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private PrincipalCache principalCache;
+
+	@BeforeEach
+	void setUp() {
+		// L2 없이 로컬 캐시 + DB 경로만 검증
+		principalCache = new PrincipalCache(userRepository, redisTemplate, redisMessageListenerContainer,
+			new SimpleMeterRegistry(), false);
+	}
+
+	@Test
+	@DisplayName("같은 토큰(subject, 발급 시각)은 DB를 한 번만 조회하고, 요청마다 새 User를 돌려준다")
+	void shouldLoadOncePerToken() {
+		given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user("테스트유저")));
+
+		User first = principalCache.getOrLoad(EMAIL, ISSUED_AT);
+		User second = principalCache.getOrLoad(EMAIL, ISSUED_AT);
+
+		then(userRepository).should(times(1)).findByEmail(EMAIL);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getId()).isEqualTo(1L);
+		assertThat(second.getNickName()).isEqualTo("테스트유저");
+		assertThat(second.getPassword()).isNull();
+	}
+
+	@Test
+	@DisplayName("프로필 변경 이벤트 후에는 다시 DB에서 적재한다")
+	void shouldReloadAfterPrincipalChanged() {
+		given(userRepository.findByEmail(EMAIL))
+			.willReturn(Optional.of(user("이전닉네임")))
+			.willReturn(Optional.of(user("새닉네임")));
+		principalCache.getOrLoad(EMAIL, ISSUED_AT);
+
+		principalCache.onPrincipalChanged(new PrincipalChangedEvent(EMAIL));
+
+		assertThat(principalCache.getOrLoad(EMAIL, ISSUED_AT).getNickName()).isEqualTo("새닉네임");
+		then(redisTemplate).should().convertAndSend(PrincipalCache.EVICT_CHANNEL, EMAIL);
+	}
+
+	@Test
+	@DisplayName("없는 사용자는 캐시하지 않고 UsernameNotFoundException")
+	void shouldThrowWhenUserNotFound() {
+		given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+
+		assertThatThrownBy(() -> principalCache.getOrLoad(EMAIL, ISSUED_AT))
+			.isInstanceOf(UsernameNotFoundException.class);
+		assertThatThrownBy(() -> principalCache.getOrLoad(EMAIL, ISSUED_AT))
+			.isInstanceOf(UsernameNotFoundException.class);
+		then(userRepository).should(times(2)).findByEmail(EMAIL);
+	}
+
+	private static User user(String nickName) {
+		return User.builder()
+			.id(1L)
+			.email(EMAIL)
+			.password("encoded")
+			.nickName(nickName)
+			.role(UserRole.USER)
+			.build();
+	}
+}
@@ -0,0 +1,93 @@
+package com.eum.eum.batch;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eum.eum.location.cache.DirtyBatch;
+import com.eum.eum.location.cache.LocationCache;
+import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationBatchScheduler 단위 테스트")
+class LocationBatchSchedulerTest {
+
+	@Mock
+	private LocationCache<LocationRedisEntity> locationCache;
+
+	@Mock
+	private LocationBatchService locationBatchService;
+
+	private LocationBatchScheduler scheduler;
+
+	private static final Long MEETING_ID = 100L;
+	private static final Long USER_ID = 1L;
+
+	private final DirtyBatch dirty = new DirtyBatch("token", Map.of(MEETING_ID, List.of(USER_ID)));
+	private final Map<Long, List<LocationRedisEntity>> locations = Map.of(MEETING_ID,
+		List.of(LocationRedisEntity.create(10L, 37.5665, 126.9780, LocalDateTime.now(), null)));
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new LocationBatchScheduler(locationCache, locationBatchService, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("다른 노드가 처리 중이면 아무것도 하지 않는다")
+	void shouldSkipWhenLocked() {
+		// given
+		given(locationCache.drainDirty()).willReturn(null);
+
+		// when
+		scheduler.syncLocationsToDB();
+
+		// then
+		then(locationBatchService).shouldHaveNoInteractions();
+		then(locationCache).should(never()).completeDirty(any());
+	}
+
+	@Test
+	@DisplayName("저장에 성공하면 처리 중 목록을 삭제한다")
+	void shouldCompleteOnSuccess() {
+		// given
+		given(locationCache.drainDirty()).willReturn(dirty);
+		given(locationCache.getLatestGroupedByMeeting(dirty.userIdsByMeeting())).willReturn(locations);
+		given(locationBatchService.saveLocations(locations)).willReturn(Map.of(MEETING_ID, List.of(USER_ID)));
+
+		// when
+		scheduler.syncLocationsToDB();
+
+		// then
+		then(locationCache).should().updateLastBatchTimes(eq(Map.of(MEETING_ID, List.of(USER_ID))), any());
+		then(locationCache).should().completeDirty(dirty);
+		then(locationCache).should(never()).releaseDirty(any());
+	}
+
+	@Test
+	@DisplayName("저장에 실패하면 처리 중 목록을 남기고 잠금만 해제한다")
+	void shouldReleaseOnFailure() {
+		// given
+		given(locationCache.drainDirty()).willReturn(dirty);
+		given(locationCache.getLatestGroupedByMeeting(dirty.userIdsByMeeting())).willReturn(locations);
+		given(locationBatchService.saveLocations(locations)).willThrow(new RuntimeException("DB down"));
+
+		// when
+		scheduler.syncLocationsToDB();
+
+		// then
+		then(locationCache).should().releaseDirty(dirty);
+		then(locationCache).should(never()).completeDirty(any());
+		then(locationCache).should(never()).updateLastBatchTimes(any(), any());
+	}
+}
@@ -0,0 +1,45 @@
+package com.eum.eum.batch;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationHistoryMeetingIdBackfill 단위 테스트")
+class LocationHistoryMeetingIdBackfillTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	private LocationHistoryMeetingIdBackfill backfill;
+
+	@Test
+	@DisplayName("청크가 가득 차면 남은 행이 없을 때까지 반복한다")
+	void shouldRepeatWhileChunkIsFull() {
+		given(jdbcTemplate.update(LocationHistoryMeetingIdBackfill.BACKFILL_SQL))
+			.willReturn(LocationHistoryMeetingIdBackfill.CHUNK_SIZE)
+			.willReturn(LocationHistoryMeetingIdBackfill.CHUNK_SIZE)
+			.willReturn(3);
+
+		backfill.onStartup();
+
+		then(jdbcTemplate).should(times(3)).update(LocationHistoryMeetingIdBackfill.BACKFILL_SQL);
+	}
+
+	@Test
+	@DisplayName("채울 행이 없으면 한 번만 실행한다")
+	void shouldRunOnceWhenNothingToBackfill() {
+		given(jdbcTemplate.update(LocationHistoryMeetingIdBackfill.BACKFILL_SQL)).willReturn(0);
+
+		backfill.onStartup();
+
+		then(jdbcTemplate).should(times(1)).update(LocationHistoryMeetingIdBackfill.BACKFILL_SQL);
+	}
+}
@@ -0,0 +1,79 @@
+package com.eum.eum.common.aspect;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eum.eum.common.annotation.CustomLog;
+import com.eum.eum.common.annotation.CustomLog.LogType;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+@DisplayName("CustomLoggingAspect 샘플링 테스트")
+class CustomLoggingAspectTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private CustomLoggingAspect aspect;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		aspect = new CustomLoggingAspect(mock(EntityManager.class), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("sampleRate 1이면 모든 호출이 메서드별 히스토그램에 집계된다")
+	void shouldRecordEverySample() throws Throwable {
+		Method method = getClass().getDeclaredMethod("alwaysSampled");
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(aspect.logCustom(joinPoint(method), method.getAnnotation(CustomLog.class))).isEqualTo("ok");
+		}
+
+		Timer timer = meterRegistry.find("eum.custom.log.time").timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(10);
+		// QUERY를 켜지 않았으므로 쿼리 히스토그램은 등록되지 않음
+		assertThat(meterRegistry.find("eum.custom.log.queries").summary()).isNull();
+	}
+
+	@Test
+	@DisplayName("sampleRate 0이면 메서드만 실행하고 측정하지 않는다")
+	void shouldSkipWhenNotSampled() throws Throwable {
+		Method method = getClass().getDeclaredMethod("neverSampled");
+		ProceedingJoinPoint joinPoint = joinPoint(method);
+
+		assertThat(aspect.logCustom(joinPoint, method.getAnnotation(CustomLog.class))).isEqualTo("ok");
+
+		then(joinPoint).should().proceed();
+		assertThat(meterRegistry.find("eum.custom.log.time").timer()).isNull();
+	}
+
+	private ProceedingJoinPoint joinPoint(Method method) throws Throwable {
+		ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+		MethodSignature signature = mock(MethodSignature.class);
+		given(joinPoint.getSignature()).willReturn(signature);
+		given(signature.getMethod()).willReturn(method);
+		given(signature.toShortString()).willReturn(method.getName());
+		given(joinPoint.proceed()).willReturn("ok");
+		return joinPoint;
+	}
+
+	@CustomLog(LogType.EXECUTION_TIME)
+	void alwaysSampled() {
+	}
+
+	@CustomLog(value = LogType.QUERY, sampleRate = 0)
+	void neverSampled() {
+	}
+}
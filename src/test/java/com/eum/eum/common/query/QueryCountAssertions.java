@@ -0,0 +1,54 @@
+package com.eum.eum.common.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회귀 테스트용 쿼리 예산 검사
+ * QueryCountInspector가 등록된 컨텍스트(@SpringBootTest, 또는 QueryCountConfig를 @Import한 슬라이스)에서 사용
+ *
+ * <pre>
+ * QueryCountAssertions.assertQueryBudget(3, () -> mockMvc.perform(get("/api/meetings")));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+	@FunctionalInterface
+	public interface Action {
+		void run() throws Exception;
+	}
+
+	private QueryCountAssertions() {
+	}
+
+	public static QueryCount countQueries(Action action) throws Exception {
+		QueryCount count = QueryCountHolder.start();
+		try {
+			action.run();
+		} finally {
+			QueryCountHolder.end(count);
+		}
+		return count;
+	}
+
+	/**
+	 * 실행된 SQL이 maxQueries 이하인지 검사
+	 */
+	public static QueryCount assertQueryBudget(int maxQueries, Action action) throws Exception {
+		QueryCount count = countQueries(action);
+		assertThat(count.getTotal())
+			.as("쿼리 예산 초과 - 반복된 문장: %s", count.getRepeated(2))
+			.isLessThanOrEqualTo(maxQueries);
+		return count;
+	}
+
+	/**
+	 * 같은 SQL이 maxRepeat 번을 넘게 반복되지 않는지 검사 (N+1 회귀 방지)
+	 */
+	public static QueryCount assertNoRepeatedQueries(int maxRepeat, Action action) throws Exception {
+		QueryCount count = countQueries(action);
+		assertThat(count.getRepeated(maxRepeat + 1))
+			.as("동일 SQL 반복 (N+1 의심)")
+			.isEmpty();
+		return count;
+	}
+}
@@ -0,0 +1,69 @@
+package com.eum.eum.common.query;
+
+import static com.eum.eum.common.query.QueryCountAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueryCount 단위 테스트")
+class QueryCountTest {
+
+	private static final String SELECT_USER = "select u1_0.id from users u1_0 where u1_0.id=?";
+	private static final String SELECT_MEETING = "select m1_0.id from meeting m1_0 where m1_0.id=?";
+
+	private final QueryCountInspector inspector = new QueryCountInspector();
+
+	@Test
+	@DisplayName("열린 범위가 없으면 SQL을 그대로 돌려주고 집계하지 않는다")
+	void shouldPassThroughWithoutScope() {
+		assertThat(inspector.inspect(SELECT_USER)).isEqualTo(SELECT_USER);
+		assertThat(QueryCountHolder.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("동일 문장 반복을 N+1 후보로 집계한다")
+	void shouldDetectRepeatedStatements() throws Exception {
+		QueryCount count = countQueries(() -> {
+			inspector.inspect(SELECT_MEETING);
+			for (int i = 0; i < 3; i++) {
+				inspector.inspect(SELECT_USER);
+			}
+		});
+
+		assertThat(count.getTotal()).isEqualTo(4);
+		assertThat(count.getMaxRepeat()).isEqualTo(3);
+		assertThat(count.getRepeated(3)).containsOnlyKeys(SELECT_USER);
+		assertThat(QueryCountHolder.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("중첩 범위의 쿼리는 바깥 범위에도 합산되고, 종료 후 바깥 범위로 돌아간다")
+	void shouldPropagateToOuterScope() throws Exception {
+		QueryCount outer = QueryCountHolder.start();
+		try {
+			inspector.inspect(SELECT_MEETING);
+			QueryCount inner = countQueries(() -> inspector.inspect(SELECT_USER));
+
+			assertThat(inner.getTotal()).isEqualTo(1);
+			assertThat(outer.getTotal()).isEqualTo(2);
+			assertThat(QueryCountHolder.current()).isSameAs(outer);
+		} finally {
+			QueryCountHolder.end(outer);
+		}
+	}
+
+	@Test
+	@DisplayName("쿼리 예산을 넘으면 실패한다")
+	void shouldFailWhenOverBudget() {
+		assertThatThrownBy(() -> assertQueryBudget(1, () -> {
+			inspector.inspect(SELECT_USER);
+			inspector.inspect(SELECT_USER);
+		})).isInstanceOf(AssertionError.class);
+
+		assertThatThrownBy(() -> assertNoRepeatedQueries(1, () -> {
+			inspector.inspect(SELECT_USER);
+			inspector.inspect(SELECT_USER);
+		})).isInstanceOf(AssertionError.class);
+	}
+}
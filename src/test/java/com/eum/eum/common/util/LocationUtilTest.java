@@ -0,0 +1,91 @@
+package com.eum.eum.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocationUtil 단위 테스트")
+class LocationUtilTest {
+
+	private static final double BASE_LAT = 37.5;
+	private static final double BASE_LNG = 127.0;
+
+	@Nested
+	@DisplayName("평면 근사 정확도 (하버사인 기준)")
+	class Accuracy {
+
+		@Test
+		@DisplayName("10km 이내 임의 지점에서 상대 오차 1e-6 미만")
+		void shouldStayWithinErrorBound() {
+			Random random = new Random(42);
+
+			for (int i = 0; i < 10_000; i++) {
+				// 위도 33~43 (국내 + 여유), 반경 약 10km 이내
+				double lat1 = 33 + random.nextDouble() * 10;
+				double lng1 = 124 + random.nextDouble() * 8;
+				double lat2 = lat1 + (random.nextDouble() - 0.5) * 0.12;
+				double lng2 = lng1 + (random.nextDouble() - 0.5) * 0.12;
+
+				double exact = LocationUtil.haversine(lat1, lng1, lat2, lng2);
+				if (exact > LocationUtil.EQUIRECTANGULAR_MAX_METERS || exact < 1) {
+					continue;
+				}
+				double approx = LocationUtil.equirectangular(lat1, lng1, lat2, lng2);
+
+				assertThat(Math.abs(approx - exact) / exact).isLessThan(1e-6);
+			}
+		}
+
+		@Test
+		@DisplayName("20m/60m 기준 판정이 하버사인과 같다 (경계 ±1mm 밖)")
+		void shouldAgreeOnThresholds() {
+			Random random = new Random(7);
+
+			for (double threshold : new double[] {20, 60}) {
+				for (int i = 0; i < 10_000; i++) {
+					double lat2 = BASE_LAT + (random.nextDouble() - 0.5) * 0.002;
+					double lng2 = BASE_LNG + (random.nextDouble() - 0.5) * 0.002;
+
+					double exact = LocationUtil.haversine(BASE_LAT, BASE_LNG, lat2, lng2);
+					if (Math.abs(exact - threshold) < 0.001) {
+						continue;
+					}
+
+					assertThat(LocationUtil.isWithinDistance(BASE_LAT, BASE_LNG, lat2, lng2, threshold))
+						.isEqualTo(exact <= threshold);
+				}
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("API")
+	class Api {
+
+		@Test
+		@DisplayName("좌표가 null이면 거리는 MAX, 범위 판정은 false")
+		void shouldHandleNullCoordinates() {
+			assertThat(LocationUtil.calculateDistance(null, BASE_LNG, BASE_LAT, BASE_LNG)).isEqualTo(Double.MAX_VALUE);
+			assertThat(LocationUtil.isWithinDistance(null, BASE_LNG, BASE_LAT, BASE_LNG, 100)).isFalse();
+		}
+
+		@Test
+		@DisplayName("배치 계산 결과는 지점별 평면 근사와 1cm 이내로 같다")
+		void shouldMatchSingleCallsInBatch() {
+			double[] lats = {BASE_LAT, BASE_LAT + 0.001, BASE_LAT - 0.0005};
+			double[] lngs = {BASE_LNG, BASE_LNG + 0.0003, BASE_LNG - 0.002};
+			double[] out = new double[lats.length];
+
+			LocationUtil.equirectangular(BASE_LAT, BASE_LNG, lats, lngs, out);
+
+			for (int i = 0; i < lats.length; i++) {
+				assertThat(out[i]).isCloseTo(
+					LocationUtil.equirectangular(BASE_LAT, BASE_LNG, lats[i], lngs[i]), within(0.01));
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.eum.eum.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PolylineEncoder 단위 테스트")
+class PolylineEncoderTest {
+
+	// Google 문서 예제
+	private static final List<double[]> GOOGLE_POINTS = List.of(
+		new double[] {38.5, -120.2},
+		new double[] {40.7, -120.95},
+		new double[] {43.252, -126.453}
+	);
+	private static final String GOOGLE_ENCODED = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+	@Test
+	@DisplayName("Google 예제 좌표를 동일한 문자열로 인코딩")
+	void shouldEncodeGoogleExample() {
+		String encoded = PolylineEncoder.encode(GOOGLE_POINTS, p -> p[0], p -> p[1]);
+
+		assertThat(encoded).isEqualTo(GOOGLE_ENCODED);
+	}
+
+	@Test
+	@DisplayName("인코딩 → 디코딩 시 1e-5 오차 이내로 복원")
+	void shouldRoundTrip() {
+		List<double[]> points = List.of(
+			new double[] {37.497942, 127.027621},
+			new double[] {37.497700, 127.027700},
+			new double[] {37.496000, 127.027621}
+		);
+
+		List<double[]> decoded = PolylineEncoder.decode(
+			PolylineEncoder.encode(points, p -> p[0], p -> p[1]));
+
+		assertThat(decoded).hasSize(points.size());
+		for (int i = 0; i < points.size(); i++) {
+			assertThat(decoded.get(i)[0]).isCloseTo(points.get(i)[0], within(1e-5));
+			assertThat(decoded.get(i)[1]).isCloseTo(points.get(i)[1], within(1e-5));
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.eum.eum.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RouteSimplifier 단위 테스트")
+class RouteSimplifierTest {
+
+	private static final double BASE_LAT = 37.5;
+	private static final double BASE_LNG = 127.0;
+
+	// 경도 방향 직선 경로 (약 88m 간격)
+	private static List<double[]> straightLine(int count) {
+		List<double[]> points = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			points.add(new double[] {BASE_LAT, BASE_LNG + i * 0.001});
+		}
+		return points;
+	}
+
+	private static List<double[]> simplify(List<double[]> points, Double tolerance, Integer maxPoints) {
+		return RouteSimplifier.simplify(points, p -> p[0], p -> p[1], tolerance, maxPoints);
+	}
+
+	@Nested
+	@DisplayName("toleranceMeters 기준")
+	class Tolerance {
+
+		@Test
+		@DisplayName("직선 위의 중간 지점은 모두 제거되고 시작/끝만 남는다")
+		void shouldRemoveCollinearPoints() {
+			List<double[]> points = straightLine(10);
+
+			List<double[]> result = simplify(points, 1.0, null);
+
+			assertThat(result).containsExactly(points.getFirst(), points.getLast());
+		}
+
+		@Test
+		@DisplayName("허용 오차보다 크게 벗어난 지점은 유지된다 (약 55m 편차)")
+		void shouldKeepPointBeyondTolerance() {
+			List<double[]> points = straightLine(5);
+			double[] spike = {BASE_LAT + 0.0005, BASE_LNG + 0.002};
+			points.set(2, spike);
+
+			assertThat(simplify(points, 30.0, null))
+				.containsExactly(points.get(0), spike, points.get(4));
+			assertThat(simplify(points, 100.0, null))
+				.containsExactly(points.get(0), points.get(4));
+		}
+	}
+
+	@Nested
+	@DisplayName("maxPoints 기준")
+	class MaxPoints {
+
+		@Test
+		@DisplayName("지점 수 상한을 지키고, 시작/끝과 원래 순서를 유지한다")
+		void shouldRespectBudgetAndOrder() {
+			List<double[]> points = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				// 지그재그 경로
+				points.add(new double[] {BASE_LAT + (i % 2) * 0.0003 * (i % 7), BASE_LNG + i * 0.0005});
+			}
+
+			List<double[]> result = simplify(points, null, 10);
+
+			assertThat(result).hasSize(10);
+			assertThat(result.getFirst()).isSameAs(points.getFirst());
+			assertThat(result.getLast()).isSameAs(points.getLast());
+			assertThat(result).isSortedAccordingTo((a, b) -> Double.compare(a[1], b[1]));
+		}
+
+		@Test
+		@DisplayName("지점이 2개 이하면 그대로 반환")
+		void shouldReturnShortRouteAsIs() {
+			List<double[]> points = straightLine(2);
+
+			assertThat(simplify(points, 1000.0, 2)).containsExactlyElementsOf(points);
+		}
+	}
+}
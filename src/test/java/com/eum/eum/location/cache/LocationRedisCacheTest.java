@@ -0,0 +1,108 @@
+package com.eum.eum.location.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationRedisCache 단위 테스트")
+class LocationRedisCacheTest {
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@InjectMocks
+	private LocationRedisCache locationRedisCache;
+
+	private static final Long MEETING_ID = 100L;
+
+	// 강남역 (목적지)
+	private static final double TARGET_LAT = 37.497942;
+	private static final double TARGET_LNG = 127.027621;
+
+	@Nested
+	@DisplayName("GEO 인덱스 좌표 검증")
+	class GeoIndexable {
+
+		@Test
+		@DisplayName("GEO 범위 안의 좌표는 인덱싱한다")
+		void shouldAcceptValidCoordinate() {
+			assertThat(LocationRedisCache.isGeoIndexable(TARGET_LAT, TARGET_LNG)).isTrue();
+			assertThat(LocationRedisCache.isGeoIndexable(85.05, 180.0)).isTrue();
+		}
+
+		@Test
+		@DisplayName("위도 ±85.05 밖이나 좌표가 없으면 인덱싱하지 않는다")
+		void shouldRejectOutOfRangeCoordinate() {
+			assertThat(LocationRedisCache.isGeoIndexable(89.0, TARGET_LNG)).isFalse();
+			assertThat(LocationRedisCache.isGeoIndexable(-86.0, TARGET_LNG)).isFalse();
+			assertThat(LocationRedisCache.isGeoIndexable(TARGET_LAT, 181.0)).isFalse();
+			assertThat(LocationRedisCache.isGeoIndexable(null, TARGET_LNG)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("GEO 인덱스를 끈 반경/최근접 조회")
+	class ScanNearby {
+
+		private void givenLocations() {
+			Map<Object, Object> locations = new LinkedHashMap<>();
+			// 약 1km, 약 30m, 약 100m
+			locations.put("user:1", LocationRedisEntity.create(11L, TARGET_LAT + 0.009, TARGET_LNG, LocalDateTime.now(), null));
+			locations.put("user:2", LocationRedisEntity.create(12L, TARGET_LAT - 0.00024, TARGET_LNG, LocalDateTime.now(), null));
+			locations.put("user:3", LocationRedisEntity.create(13L, TARGET_LAT + 0.0009, TARGET_LNG, LocalDateTime.now(), null));
+			given(redisTemplate.opsForHash()).willReturn(hashOperations);
+			given(hashOperations.entries(LocationRedisEntity.redisKey(MEETING_ID))).willReturn(locations);
+		}
+
+		@Test
+		@DisplayName("반경 안의 참여자만 가까운 순으로 반환한다")
+		void shouldFindWithinRadiusFromHash() {
+			// given
+			givenLocations();
+
+			// when
+			List<NearbyUser> result = locationRedisCache.findWithinRadius(MEETING_ID, TARGET_LAT, TARGET_LNG, 200);
+
+			// then
+			assertThat(result).extracting(NearbyUser::userId).containsExactly(2L, 3L);
+			then(stringRedisTemplate).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("가장 가까운 count명을 반환한다")
+		void shouldFindNearestFromHash() {
+			// given
+			givenLocations();
+
+			// when
+			List<NearbyUser> result = locationRedisCache.findNearest(MEETING_ID, TARGET_LAT, TARGET_LNG, 2);
+
+			// then
+			assertThat(result).extracting(NearbyUser::userId).containsExactly(2L, 3L);
+		}
+	}
+}
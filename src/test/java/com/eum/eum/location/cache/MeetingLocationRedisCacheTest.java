@@ -0,0 +1,76 @@
+package com.eum.eum.location.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.eum.eum.location.domain.entity.redis.MeetingLocationRedisEntity;
+import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.eum.eum.meeting.event.MeetingLocationChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeetingLocationRedisCache 단위 테스트")
+class MeetingLocationRedisCacheTest {
+
+	private static final Long MEETING_ID = 100L;
+	private static final String KEY = MeetingLocationRedisEntity.redisKey(MEETING_ID);
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, Object> valueOperations;
+
+	@Mock
+	private MeetingRepository meetingRepository;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private MeetingLocationRedisCache meetingLocationRedisCache;
+
+	@BeforeEach
+	void setUp() {
+		meetingLocationRedisCache = new MeetingLocationRedisCache(redisTemplate, meetingRepository,
+			redisMessageListenerContainer, new SimpleMeterRegistry());
+		meetingLocationRedisCache.bindMetrics();
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시에 적재된 목적지는 Redis를 다시 조회하지 않는다")
+	void shouldLoadOnce() {
+		given(valueOperations.get(KEY)).willReturn(MeetingLocationRedisEntity.create(MEETING_ID, 37.5, 127.0));
+
+		meetingLocationRedisCache.getOrLoad(MEETING_ID);
+		meetingLocationRedisCache.getOrLoad(MEETING_ID);
+
+		then(valueOperations).should(times(1)).get(KEY);
+	}
+
+	@Test
+	@DisplayName("목적지 변경 이벤트(커밋 후) 시 L2 삭제 + 전 노드 무효화 후 새 목적지를 적재한다")
+	void shouldReloadAfterMeetingLocationChanged() {
+		given(valueOperations.get(KEY))
+			.willReturn(MeetingLocationRedisEntity.create(MEETING_ID, 37.5, 127.0))
+			.willReturn(MeetingLocationRedisEntity.create(MEETING_ID, 37.6, 127.1));
+		meetingLocationRedisCache.getOrLoad(MEETING_ID);
+
+		meetingLocationRedisCache.onMeetingLocationChanged(new MeetingLocationChangedEvent(MEETING_ID));
+
+		assertThat(meetingLocationRedisCache.getOrLoad(MEETING_ID).getTargetLat()).isEqualTo(37.6);
+		then(redisTemplate).should().delete(KEY);
+		then(redisTemplate).should().convertAndSend(MeetingLocationRedisCache.EVICT_CHANNEL, MEETING_ID);
+	}
+}
@@ -0,0 +1,105 @@
+package com.eum.eum.location.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eum.eum.common.exception.BusinessException;
+import com.eum.eum.location.cache.MovementStatusCache;
+import com.eum.eum.location.domain.entity.Location;
+import com.eum.eum.meeting.domain.entity.Meeting;
+import com.eum.eum.meeting.domain.entity.MeetingTestFactory;
+import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
+import com.eum.eum.user.domain.entity.User;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationArrivalService 단위 테스트")
+class LocationArrivalServiceTest {
+
+	@Mock
+	private MeetingUserRepository meetingUserRepository;
+
+	@Mock
+	private MovementStatusCache movementStatusCache;
+
+	@InjectMocks
+	private LocationArrivalService locationArrivalService;
+
+	private static final Long USER_ID = 1L;
+	private static final Long MEETING_ID = 100L;
+
+	// 강남역 (목적지)과 약 30m 떨어진 위치
+	private static final Double TARGET_LAT = 37.497942;
+	private static final Double TARGET_LNG = 127.027621;
+	private static final Double NEAR_LAT = 37.497700;
+	private static final Double NEAR_LNG = 127.027700;
+
+	private User testUser;
+	private Meeting testMeeting;
+	private Location goal;
+
+	@BeforeEach
+	void setUp() {
+		testUser = User.builder()
+			.id(USER_ID)
+			.email("test@test.com")
+			.nickName("테스트유저")
+			.build();
+		testMeeting = MeetingTestFactory.createMeeting(MEETING_ID, TARGET_LAT, TARGET_LNG);
+		goal = new Location(TARGET_LAT, TARGET_LNG);
+	}
+
+	@Test
+	@DisplayName("도착 전이면 ARRIVED로 변경하고 도착 메시지를 반환한다")
+	void shouldMarkArrived() {
+		// given
+		MeetingUser meetingUser = MeetingTestFactory.createMeetingUser(testUser, testMeeting, MovementStatus.MOVING);
+		given(meetingUserRepository.findByMeetingIdAndUserId(MEETING_ID, USER_ID)).willReturn(Optional.of(meetingUser));
+
+		// when
+		String message = locationArrivalService.arrive(USER_ID, MEETING_ID, goal, NEAR_LAT, NEAR_LNG);
+
+		// then
+		assertThat(message).isEqualTo("테스트유저님이 도착했습니다!");
+		assertThat(meetingUser.getMovementStatus()).isEqualTo(MovementStatus.ARRIVED);
+		then(meetingUserRepository).should().save(meetingUser);
+	}
+
+	@Test
+	@DisplayName("이미 도착한 상태면 저장하지 않고 캐시만 채운다")
+	void shouldOnlyFillCacheWhenAlreadyArrived() {
+		// given
+		MeetingUser meetingUser = MeetingTestFactory.createMeetingUser(testUser, testMeeting, MovementStatus.ARRIVED);
+		given(meetingUserRepository.findByMeetingIdAndUserId(MEETING_ID, USER_ID)).willReturn(Optional.of(meetingUser));
+
+		// when
+		String message = locationArrivalService.arrive(USER_ID, MEETING_ID, goal, NEAR_LAT, NEAR_LNG);
+
+		// then
+		assertThat(message).isNull();
+		then(meetingUserRepository).should(never()).save(any());
+		then(movementStatusCache).should().put(MEETING_ID, USER_ID, MovementStatus.ARRIVED);
+	}
+
+	@Test
+	@DisplayName("MeetingUser를 찾을 수 없으면 예외를 발생시킨다")
+	void shouldThrowExceptionWhenMeetingUserNotFound() {
+		// given
+		given(meetingUserRepository.findByMeetingIdAndUserId(MEETING_ID, USER_ID)).willReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> locationArrivalService.arrive(USER_ID, MEETING_ID, goal, NEAR_LAT, NEAR_LNG))
+			.isInstanceOf(BusinessException.class);
+	}
+}
@@ -0,0 +1,149 @@
+package com.eum.eum.location.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.eum.eum.location.dto.LocationResponseDto;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+import com.eum.eum.websocket.session.LocationSubscriptionRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationBroadcaster 단위 테스트")
+class LocationBroadcasterTest {
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	private TaskScheduler taskScheduler;
+
+	@Mock
+	private LocationSubscriptionRegistry subscriptionRegistry;
+
+	private LocationBroadcaster broadcaster;
+
+	private static final Long MEETING_ID = 1L;
+
+	@BeforeEach
+	void setUp() {
+		broadcaster = new LocationBroadcaster(messagingTemplate, taskScheduler, subscriptionRegistry, 1000);
+		lenient().when(subscriptionRegistry.hasJsonSubscribers(MEETING_ID)).thenReturn(true);
+		lenient().when(subscriptionRegistry.hasCompactSubscribers(MEETING_ID)).thenReturn(true);
+	}
+
+	private static LocationResponseDto location(Long meetingUserId, double lat) {
+		return LocationResponseDto.builder()
+			.meetingUserId(meetingUserId)
+			.lat(lat)
+			.lng(127.0)
+			.movementStatus(MovementStatus.MOVING)
+			.isArrived(false)
+			.build();
+	}
+
+	@Test
+	@DisplayName("flush 전에는 전송하지 않고, flush 시 미팅당 한 프레임으로 최신 위치만 보낸다")
+	@SuppressWarnings("unchecked")
+	void shouldCoalesceUpdatesPerMeeting() {
+		// given
+		broadcaster.broadcast(MEETING_ID, location(10L, 37.1));
+		broadcaster.broadcast(MEETING_ID, location(10L, 37.2)); // 같은 사용자 -> 덮어씀
+		broadcaster.broadcast(MEETING_ID, location(20L, 37.3));
+		then(messagingTemplate).shouldHaveNoInteractions();
+
+		// when
+		broadcaster.flush();
+
+		// then
+		ArgumentCaptor<List<LocationResponseDto>> captor = ArgumentCaptor.forClass(List.class);
+		then(messagingTemplate).should().convertAndSend(eq("/sub/meeting/1/location"), captor.capture());
+		then(messagingTemplate).should().convertAndSend(eq("/sub/meeting/1/location/compact"), any(Object.class), anyMap());
+
+		assertThat(captor.getValue())
+			.extracting(LocationResponseDto::getMeetingUserId, LocationResponseDto::getLat)
+			.containsExactlyInAnyOrder(tuple(10L, 37.2), tuple(20L, 37.3));
+	}
+
+	@Test
+	@DisplayName("같은 주기 안에서 도착 메시지는 이후 업데이트에 덮여도 유지된다")
+	@SuppressWarnings("unchecked")
+	void shouldKeepArrivalMessageWhenCoalesced() {
+		// given
+		LocationResponseDto arrived = location(10L, 37.1);
+		arrived.setIsArrived(true);
+		arrived.setMovementStatus(MovementStatus.ARRIVED);
+		arrived.setMessage("테스트님이 도착했습니다!");
+
+		LocationResponseDto moved = location(10L, 37.2);
+
+		broadcaster.broadcast(MEETING_ID, arrived);
+		broadcaster.broadcast(MEETING_ID, moved);
+
+		// when
+		broadcaster.flush();
+
+		// then
+		ArgumentCaptor<List<LocationResponseDto>> captor = ArgumentCaptor.forClass(List.class);
+		then(messagingTemplate).should().convertAndSend(eq("/sub/meeting/1/location"), captor.capture());
+
+		LocationResponseDto sent = captor.getValue().getFirst();
+		assertThat(sent.getLat()).isEqualTo(37.2);
+		assertThat(sent.getMessage()).isEqualTo("테스트님이 도착했습니다!");
+		assertThat(sent.getMovementStatus()).isEqualTo(MovementStatus.ARRIVED);
+
+		// 호출자가 넘긴 DTO는 변경되지 않음
+		assertThat(moved.getMessage()).isNull();
+		assertThat(moved.getMovementStatus()).isEqualTo(MovementStatus.MOVING);
+	}
+
+	@Test
+	@DisplayName("flush 주기가 0 이하면 묶지 않고 단건 그대로 즉시 전송한다")
+	void shouldSendSingleLocationImmediately() {
+		// given
+		LocationBroadcaster immediate = new LocationBroadcaster(messagingTemplate, taskScheduler, subscriptionRegistry, 0);
+		LocationResponseDto location = location(10L, 37.1);
+
+		// when
+		immediate.broadcast(MEETING_ID, location);
+
+		// then
+		then(messagingTemplate).should().convertAndSend("/sub/meeting/1/location", (Object)location);
+		then(messagingTemplate).should().convertAndSend(eq("/sub/meeting/1/location/compact"), eq((Object)location), anyMap());
+	}
+
+	@Test
+	@DisplayName("구독자가 없는 포맷으로는 전송하지 않는다")
+	void shouldSkipFormatWithoutSubscribers() {
+		// given
+		given(subscriptionRegistry.hasJsonSubscribers(MEETING_ID)).willReturn(false);
+		broadcaster.broadcast(MEETING_ID, location(10L, 37.1));
+
+		// when
+		broadcaster.flush();
+
+		// then
+		then(messagingTemplate).should(never()).convertAndSend(eq("/sub/meeting/1/location"), any(Object.class));
+		then(messagingTemplate).should().convertAndSend(eq("/sub/meeting/1/location/compact"), any(Object.class), anyMap());
+	}
+
+	@Test
+	@DisplayName("보낼 위치가 없으면 flush 시 아무것도 전송하지 않는다")
+	void shouldSendNothingWhenEmpty() {
+		broadcaster.flush();
+
+		then(messagingTemplate).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,102 @@
+package com.eum.eum.location.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eum.eum.location.cache.MeetingLocationRedisCache;
+import com.eum.eum.location.domain.entity.redis.MeetingLocationRedisEntity;
+import com.eum.eum.location.service.LocationIngestFilter.Decision;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationIngestFilter 단위 테스트")
+class LocationIngestFilterTest {
+
+	private static final String SESSION_ID = "session-123";
+	private static final Long MEETING_ID = 1L;
+	private static final double LAT = 37.5;
+	private static final double LNG = 127.0;
+
+	@Mock
+	private MeetingLocationRedisCache meetingLocationRedisCache;
+
+	private LocationIngestFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new LocationIngestFilter(meetingLocationRedisCache, 5.0, 60_000);
+		// 목적지는 현재 위치에서 약 1.1km 북쪽
+		given(meetingLocationRedisCache.getOrLoad(MEETING_ID))
+			.willReturn(MeetingLocationRedisEntity.create(MEETING_ID, LAT + 0.01, LNG));
+	}
+
+	@Test
+	@DisplayName("첫 위치와 기준 거리 이상 이동은 FORWARD, 제자리 흔들림은 SUPPRESS")
+	void shouldSuppressJitter() {
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 0)).isEqualTo(Decision.FORWARD);
+		// 약 1m
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT + 0.00001, LNG, 5_000)).isEqualTo(Decision.SUPPRESS);
+		// 약 11m
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT + 0.0001, LNG, 10_000)).isEqualTo(Decision.FORWARD);
+
+		assertThat(filter.getForwardedCount()).isEqualTo(2);
+		assertThat(filter.getSuppressedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("제자리에 있어도 refresh 주기가 지나면 TTL 연장을 한 번만 요청한다")
+	void shouldRefreshTtlPeriodically() {
+		filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 0);
+
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 60_000)).isEqualTo(Decision.REFRESH_TTL);
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 65_000)).isEqualTo(Decision.SUPPRESS);
+		assertThat(filter.getTtlRefreshedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("forget 후에는 같은 위치라도 다시 FORWARD")
+	void shouldForwardAfterForget() {
+		filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 0);
+		filter.forget(SESSION_ID);
+
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 1_000)).isEqualTo(Decision.FORWARD);
+		assertThat(filter.getTrackedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("상태는 세션 단위 - 재접속한 새 세션의 첫 위치는 FORWARD")
+	void shouldForwardFirstLocationOfNewSession() {
+		filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 0);
+
+		assertThat(filter.evaluate("session-456", MEETING_ID, LAT, LNG, 1_000)).isEqualTo(Decision.FORWARD);
+	}
+
+	@Test
+	@DisplayName("기준 거리 미만이라도 도착 반경 경계를 넘으면 FORWARD")
+	void shouldForwardWhenCrossingArrivalRadius() {
+		// 목적지에서 약 62m 남쪽 (반경 밖) -> 약 58m (반경 안), 이동 거리 약 4m
+		double outside = LAT + 0.01 - 0.00056;
+		double inside = LAT + 0.01 - 0.00052;
+		filter.evaluate(SESSION_ID, MEETING_ID, outside, LNG, 0);
+
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, inside, LNG, 5_000)).isEqualTo(Decision.FORWARD);
+	}
+
+	@Test
+	@DisplayName("markForwarded 후에는 해당 지점 기준으로 다시 걸러낸다")
+	void shouldTrackMarkedForwardedPoint() {
+		filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, 0);
+
+		filter.markForwarded(SESSION_ID, LAT, LNG);
+
+		assertThat(filter.evaluate(SESSION_ID, MEETING_ID, LAT, LNG, System.currentTimeMillis()))
+			.isEqualTo(Decision.SUPPRESS);
+		assertThat(filter.getForwardedCount()).isEqualTo(2);
+	}
+}
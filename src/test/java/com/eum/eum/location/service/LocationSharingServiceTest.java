@@ -3,6 +3,7 @@ package com.eum.eum.location.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -15,16 +16,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.eum.eum.common.exception.BusinessException;
 import com.eum.eum.common.util.LocationUtil;
 import com.eum.eum.location.cache.LocationCache;
 import com.eum.eum.location.cache.MeetingLocationRedisCache;
+import com.eum.eum.location.cache.MovementStatusCache;
+import com.eum.eum.location.cache.NearbyUser;
+import com.eum.eum.location.cache.LocationSnapshot;
 import com.eum.eum.location.domain.entity.Location;
 import com.eum.eum.location.domain.entity.redis.LocationRedisEntity;
 import com.eum.eum.location.domain.entity.redis.MeetingLocationRedisEntity;
 import com.eum.eum.location.dto.LocationRequestDto;
 import com.eum.eum.location.dto.LocationResponseDto;
+import com.eum.eum.location.dto.LocationSnapshotResponseDto;
 import com.eum.eum.meeting.domain.entity.Meeting;
 import com.eum.eum.meeting.domain.entity.MeetingTestFactory;
 import com.eum.eum.meeting.domain.entity.MeetingUser;
@@ -49,6 +55,12 @@ class LocationSharingServiceTest {
 	@Mock
 	private MeetingLocationRedisCache meetingLocationRedisCache;
 
+	@Mock
+	private MovementStatusCache movementStatusCache;
+
+	@Mock
+	private LocationArrivalService locationArrivalService;
+
 	@InjectMocks
 	private LocationSharingService locationSharingService;
 
@@ -97,7 +109,6 @@ class LocationSharingServiceTest {
 			// given
 			LocationRequestDto requestDto = createLocationRequest(FAR_LAT, FAR_LNG);
 			given(meetingLocationRedisCache.getOrLoad(MEETING_ID)).willReturn(goalLocation);
-			given(locationCache.getLatest(MEETING_ID, USER_ID)).willReturn(null);
 
 			double distance = LocationUtil.calculateDistance(FAR_LAT, FAR_LNG, TARGET_LAT, TARGET_LNG);
 			System.out.println("\n========== 테스트: 도착 범위 외 위치 ==========");
@@ -121,6 +132,7 @@ class LocationSharingServiceTest {
 			assertThat(result.getMessage()).isNull();
 			assertThat(result.getMovementStatus()).isEqualTo(MovementStatus.MOVING);
 			then(locationCache).should().saveLatest(eq(MEETING_ID), eq(USER_ID), any(LocationRedisEntity.class));
+			then(locationArrivalService).shouldHaveNoInteractions();
 		}
 
 		@Test
@@ -128,12 +140,11 @@ class LocationSharingServiceTest {
 		void shouldReturnArrivedWhenInsideArrivalRange() {
 			// given
 			LocationRequestDto requestDto = createLocationRequest(NEAR_LAT, NEAR_LNG);
-			testMeetingUser = createMeetingUser(MovementStatus.MOVING);
 
 			given(meetingLocationRedisCache.getOrLoad(MEETING_ID)).willReturn(goalLocation);
-			given(meetingUserRepository.findByMeetingIdAndUserId(MEETING_ID, USER_ID))
-				.willReturn(Optional.of(testMeetingUser));
-			given(locationCache.getLatest(MEETING_ID, USER_ID)).willReturn(null);
+			given(movementStatusCache.isArrived(MEETING_ID, USER_ID)).willReturn(false);
+			given(locationArrivalService.arrive(eq(USER_ID), eq(MEETING_ID), any(Location.class), eq(NEAR_LAT),
+				eq(NEAR_LNG))).willReturn("테스트유저님이 도착했습니다!");
 
 			double distance = LocationUtil.calculateDistance(NEAR_LAT, NEAR_LNG, TARGET_LAT, TARGET_LNG);
 			System.out.println("\n========== 테스트: 도착 범위 내 위치 ==========");
@@ -157,20 +168,16 @@ class LocationSharingServiceTest {
 			assertThat(result.getIsArrived()).isTrue();
 			assertThat(result.getMessage()).isEqualTo("테스트유저님이 도착했습니다!");
 			assertThat(result.getMovementStatus()).isEqualTo(MovementStatus.ARRIVED);
-			then(meetingUserRepository).should().save(testMeetingUser);
 		}
 
 		@Test
-		@DisplayName("이미 도착한 상태에서 위치 전송 시 중복 처리하지 않는다")
+		@DisplayName("이미 도착한 상태에서 위치 전송 시 DB 조회 없이 중복 처리하지 않는다")
 		void shouldNotProcessDuplicateArrival() {
 			// given
 			LocationRequestDto requestDto = createLocationRequest(NEAR_LAT, NEAR_LNG);
-			testMeetingUser = createMeetingUser(MovementStatus.ARRIVED);
 
 			given(meetingLocationRedisCache.getOrLoad(MEETING_ID)).willReturn(goalLocation);
-			given(meetingUserRepository.findByMeetingIdAndUserId(MEETING_ID, USER_ID))
-				.willReturn(Optional.of(testMeetingUser));
-			given(locationCache.getLatest(MEETING_ID, USER_ID)).willReturn(null);
+			given(movementStatusCache.isArrived(MEETING_ID, USER_ID)).willReturn(true);
 
 			double distance = LocationUtil.calculateDistance(NEAR_LAT, NEAR_LNG, TARGET_LAT, TARGET_LNG);
 			System.out.println("\n========== 테스트: 중복 도착 처리 ==========");
@@ -188,51 +195,68 @@ class LocationSharingServiceTest {
 			System.out.println("  - isArrived: " + result.getIsArrived());
 			System.out.println("  - message: " + result.getMessage() + " ← 중복이라 메시지 없음!");
 			System.out.println("  - movementStatus: " + result.getMovementStatus());
-			System.out.println("  - DB 저장 호출: 안 함 (중복 방지)");
+			System.out.println("  - DB 조회/저장 호출: 안 함 (캐시로 중복 방지)");
 			System.out.println("==============================================\n");
 
 			assertThat(result.getIsArrived()).isTrue();
 			assertThat(result.getMessage()).isNull(); // 중복 도착 시 메시지 없음
 			assertThat(result.getMovementStatus()).isEqualTo(MovementStatus.MOVING); // 상태 변경 안 됨
-			then(meetingUserRepository).should(never()).save(any());
+			then(locationArrivalService).shouldHaveNoInteractions();
+			then(meetingUserRepository).shouldHaveNoInteractions();
 		}
 
 		@Test
-		@DisplayName("기존 위치 정보가 있으면 lastBatchInsertAt을 유지한다")
-		void shouldPreserveLastBatchInsertAtFromExistingLocation() {
+		@DisplayName("기존 위치를 조회하지 않고 lastBatchInsertAt 없이 바로 저장한다")
+		void shouldSaveWithoutReadingExistingLocation() {
 			// given
 			LocationRequestDto requestDto = createLocationRequest(FAR_LAT, FAR_LNG);
-			LocalDateTime existingBatchTime = LocalDateTime.now().minusMinutes(1);
-			LocationRedisEntity existingLocation = LocationRedisEntity.create(
-				MEETING_USER_ID, FAR_LAT, FAR_LNG, LocalDateTime.now(), existingBatchTime
-			);
 
 			given(meetingLocationRedisCache.getOrLoad(MEETING_ID)).willReturn(goalLocation);
-			given(locationCache.getLatest(MEETING_ID, USER_ID)).willReturn(existingLocation);
 
 			// when
 			locationSharingService.pubLocation(USER_ID, MEETING_ID, requestDto);
 
 			// then
+			then(locationCache).should(never()).getLatest(any(), any());
 			then(locationCache).should().saveLatest(eq(MEETING_ID), eq(USER_ID), argThat(entity ->
-				entity.getLastBatchInsertAt() != null &&
-					entity.getLastBatchInsertAt().equals(existingBatchTime)
+				entity.getLastBatchInsertAt() == null
 			));
 		}
 
 		@Test
-		@DisplayName("MeetingUser를 찾을 수 없으면 예외를 발생시킨다")
-		void shouldThrowExceptionWhenMeetingUserNotFound() {
+		@DisplayName("movedAt이 없으면 수신 시각으로 채워 저장한다")
+		void shouldDefaultMovedAtWhenMissing() {
 			// given
-			LocationRequestDto requestDto = createLocationRequest(NEAR_LAT, NEAR_LNG);
+			LocationRequestDto requestDto = createLocationRequest(FAR_LAT, FAR_LNG);
+			requestDto.setMovedAt(null);
 
 			given(meetingLocationRedisCache.getOrLoad(MEETING_ID)).willReturn(goalLocation);
-			given(meetingUserRepository.findByMeetingIdAndUserId(MEETING_ID, USER_ID))
-				.willReturn(Optional.empty());
 
-			// when & then
-			assertThatThrownBy(() -> locationSharingService.pubLocation(USER_ID, MEETING_ID, requestDto))
-				.isInstanceOf(BusinessException.class);
+			// when
+			locationSharingService.pubLocation(USER_ID, MEETING_ID, requestDto);
+
+			// then
+			then(locationCache).should().saveLatest(eq(MEETING_ID), eq(USER_ID), argThat(entity ->
+				entity.getMovedAt() != null
+			));
+		}
+	}
+
+	@Nested
+	@DisplayName("트랜잭션 경계")
+	class TransactionBoundary {
+
+		@Test
+		@DisplayName("pubLocation은 트랜잭션 없이 실행되고, 도착 처리만 트랜잭션을 연다")
+		void shouldOpenTransactionOnlyForArrival() throws Exception {
+			Method pubLocation = LocationSharingService.class.getMethod(
+				"pubLocation", Long.class, Long.class, LocationRequestDto.class);
+			Method arrive = LocationArrivalService.class.getMethod(
+				"arrive", Long.class, Long.class, Location.class, Double.class, Double.class);
+
+			assertThat(LocationSharingService.class.isAnnotationPresent(Transactional.class)).isFalse();
+			assertThat(pubLocation.isAnnotationPresent(Transactional.class)).isFalse();
+			assertThat(arrive.isAnnotationPresent(Transactional.class)).isTrue();
 		}
 	}
 
@@ -288,6 +312,52 @@ class LocationSharingServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("getLocationSnapshot 메서드")
+	class GetLocationSnapshot {
+
+		@Test
+		@DisplayName("sinceVersion 이후 변경분과 삭제된 참여자를 버전과 함께 반환한다")
+		void shouldReturnDeltaSnapshot() {
+			// given
+			List<LocationRedisEntity> changed = List.of(
+				LocationRedisEntity.create(2L, 37.6, 127.1, LocalDateTime.now(), null)
+			);
+			given(locationCache.getChangesSince(MEETING_ID, 10L))
+				.willReturn(new LocationSnapshot<>(12L, false, changed, List.of(3L)));
+
+			// when
+			LocationSnapshotResponseDto result = locationSharingService.getLocationSnapshot(MEETING_ID, 10L);
+
+			// then
+			assertThat(result.getVersion()).isEqualTo(12L);
+			assertThat(result.isFull()).isFalse();
+			assertThat(result.getLocations()).extracting(LocationResponseDto::getMeetingUserId).containsExactly(2L);
+			assertThat(result.getRemovedMeetingUserIds()).containsExactly(3L);
+		}
+	}
+
+	@Nested
+	@DisplayName("getUserIdsWithinArrivalRange 메서드")
+	class GetUserIdsWithinArrivalRange {
+
+		@Test
+		@DisplayName("목적지 좌표와 도착 반경으로 GEO 반경 조회한 결과를 그대로 반환한다")
+		void shouldQueryGeoIndexAroundDestination() {
+			// given
+			given(meetingLocationRedisCache.getOrLoad(MEETING_ID)).willReturn(goalLocation);
+			given(locationCache.findWithinRadius(MEETING_ID, TARGET_LAT, TARGET_LNG, ARRIVAL_DISTANCE))
+				.willReturn(List.of(new NearbyUser(2L, 12.5), new NearbyUser(1L, 40.0)));
+
+			// when
+			List<Long> result = locationSharingService.getUserIdsWithinArrivalRange(MEETING_ID);
+
+			// then
+			assertThat(result).containsExactly(2L, 1L);
+			then(locationCache).should(never()).getAllByMeeting(any());
+		}
+	}
+
 	@Nested
 	@DisplayName("checkMovementStatus 메서드")
 	class CheckMovementStatus {
@@ -0,0 +1,161 @@
+package com.eum.eum.location.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.eum.eum.common.exception.BusinessException;
+import com.eum.eum.location.domain.constrants.LocationTrackingConstants;
+import com.eum.eum.location.domain.repository.LocationHistoryJdbcRepository;
+import com.eum.eum.location.domain.repository.LocationHistoryRepository;
+import com.eum.eum.location.dto.RouteStreamPointDto;
+import com.eum.eum.meeting.domain.entity.Meeting;
+import com.eum.eum.meeting.domain.entity.MeetingTestFactory;
+import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteService 단위 테스트")
+class RouteServiceTest {
+
+	@Mock
+	private LocationHistoryRepository locationHistoryRepository;
+
+	@Mock
+	private LocationHistoryJdbcRepository locationHistoryJdbcRepository;
+
+	@Mock
+	private MeetingRepository meetingRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@InjectMocks
+	private RouteService routeService;
+
+	private static final Long MEETING_ID = 100L;
+
+	private Meeting meetingAt(LocalDateTime meetAt) {
+		Meeting meeting = MeetingTestFactory.createMeeting(MEETING_ID, 37.497942, 127.027621);
+		meeting.setMeetAt(meetAt);
+		return meeting;
+	}
+
+	@Nested
+	@DisplayName("경로 조회 구간")
+	class RouteWindow {
+
+		@Test
+		@DisplayName("약속시간 ± ROUTE_WINDOW 구간만 조회한다")
+		void shouldQueryAroundMeetAt() {
+			// given
+			LocalDateTime meetAt = LocalDateTime.of(2026, 1, 10, 19, 0);
+			given(meetingRepository.findById(MEETING_ID)).willReturn(Optional.of(meetingAt(meetAt)));
+			given(locationHistoryRepository.findRoutesByMeetingId(any(), any(), any())).willReturn(List.of());
+
+			// when
+			routeService.getAllRoutesForMeeting(MEETING_ID);
+
+			// then
+			then(locationHistoryRepository).should().findRoutesByMeetingId(
+				MEETING_ID,
+				meetAt.minus(LocationTrackingConstants.ROUTE_WINDOW),
+				meetAt.plus(LocationTrackingConstants.ROUTE_WINDOW));
+		}
+
+		@Test
+		@DisplayName("약속시간이 없으면 구간 제한 없이 전체를 조회한다")
+		void shouldQueryUnboundedWhenNoMeetAt() {
+			// given
+			given(meetingRepository.findById(MEETING_ID)).willReturn(Optional.of(meetingAt(null)));
+			given(locationHistoryRepository.findRoutesByMeetingId(any(), any(), any())).willReturn(List.of());
+
+			// when
+			routeService.getAllRoutesForMeeting(MEETING_ID);
+
+			// then
+			then(locationHistoryRepository).should().findRoutesByMeetingId(
+				eq(MEETING_ID),
+				argThat(from -> from.isBefore(LocalDateTime.of(2000, 1, 1, 0, 0))),
+				argThat(to -> to.isAfter(LocalDateTime.now().plusYears(100))));
+		}
+
+		@Test
+		@DisplayName("약속시간이 없는 미팅은 단순화 경로도 예외 없이 조회한다")
+		void shouldSimplifyWithoutMeetAt() {
+			// given
+			given(meetingRepository.findById(MEETING_ID)).willReturn(Optional.of(meetingAt(null)));
+			given(locationHistoryRepository.findRoutesByMeetingId(any(), any(), any())).willReturn(List.of());
+
+			// when & then
+			assertThat(routeService.getAllRoutesForMeeting(MEETING_ID, 10.0, null)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("미팅이 없으면 예외를 발생시킨다")
+		void shouldThrowWhenMeetingNotFound() {
+			// given
+			given(meetingRepository.findById(MEETING_ID)).willReturn(Optional.empty());
+
+			// when & then
+			assertThatThrownBy(() -> routeService.getAllRoutesForMeeting(MEETING_ID))
+				.isInstanceOf(BusinessException.class);
+			then(locationHistoryRepository).shouldHaveNoInteractions();
+		}
+	}
+
+	@Nested
+	@DisplayName("경로 스트리밍(NDJSON)")
+	class StreamRoutes {
+
+		@Test
+		@DisplayName("한 줄에 한 지점씩, 줄 앞에 공백 없이 쓴다")
+		void shouldWriteOnePointPerLine() throws Exception {
+			// given
+			given(meetingRepository.findById(MEETING_ID)).willReturn(Optional.of(meetingAt(null)));
+			willAnswer(invocation -> {
+				Consumer<RouteStreamPointDto> consumer = invocation.getArgument(3);
+				for (long meetingUserId = 1; meetingUserId <= 3; meetingUserId++) {
+					consumer.accept(RouteStreamPointDto.builder()
+						.meetingUserId(meetingUserId)
+						.lat(37.5)
+						.lng(127.0)
+						.movedAt(LocalDateTime.of(2026, 1, 10, 19, 0))
+						.build());
+				}
+				return null;
+			}).given(locationHistoryJdbcRepository).streamRoutes(eq(MEETING_ID), any(), any(), any());
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			// when
+			routeService.streamRoutesForMeeting(MEETING_ID).writeTo(out);
+
+			// then
+			List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+			assertThat(lines).hasSize(3);
+			assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{\"meetingUserId\":"));
+			assertThat(lines.get(2)).contains("\"meetingUserId\":3");
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.eum.eum.meeting.service;
+
+import static com.eum.eum.common.query.QueryCountAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.eum.eum.auth.service.AuthenticatedUserProvider;
+import com.eum.eum.common.config.QueryCountConfig;
+import com.eum.eum.common.query.QueryCount;
+import com.eum.eum.common.util.CustomBeanUtils;
+import com.eum.eum.location.domain.entity.Location;
+import com.eum.eum.meeting.domain.entity.Meeting;
+import com.eum.eum.meeting.domain.repository.MeetingUserJdbcRepository;
+import com.eum.eum.meeting.dto.MeetingUserResponseDto;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.entity.UserRole;
+
+/**
+ * 참가자 일괄 초대 쿼리 예산 (H2 + 실제 Hibernate)
+ * QueryCountConfig의 StatementInspector가 Hibernate에 등록되어야 집계되므로 설정 연결까지 함께 검증
+ * 집계 대상은 Hibernate SQL만 - JdbcTemplate 일괄 INSERT는 세지 않는다
+ */
+@DataJpaTest
+@ActiveProfiles("local")
+@Import({QueryCountConfig.class, MeetingUserService.class, MeetingUserJdbcRepository.class})
+@DisplayName("MeetingUserService 쿼리 예산 테스트")
+class MeetingUserQueryBudgetTest {
+
+	// 일정 조회(fetch join) + 사용자 IN 조회 + 추가된 참가자 재조회
+	private static final int ADD_USERS_QUERY_BUDGET = 3;
+	private static final int INVITEE_COUNT = 20;
+	private static final String EMAIL = "creator@test.com";
+
+	@Autowired
+	private MeetingUserService meetingUserService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockitoBean
+	private AuthenticatedUserProvider authenticatedUserProvider;
+
+	@MockitoBean
+	private CustomBeanUtils customBeanUtils;
+
+	private User creator;
+	private Long meetingId;
+	private List<Long> inviteeIds;
+
+	@BeforeEach
+	void setUp() {
+		creator = entityManager.persist(user(EMAIL));
+		inviteeIds = new ArrayList<>();
+		for (int i = 0; i < INVITEE_COUNT; i++) {
+			inviteeIds.add(entityManager.persist(user("invitee" + i + "@test.com")).getId());
+		}
+
+		Meeting meeting = Meeting.create("테스트 미팅", null, LocalDateTime.now().plusDays(1),
+			new Location(37.497942, 127.027621), "강남역", creator);
+		meetingId = entityManager.persist(meeting).getId();
+
+		// 영속성 컨텍스트를 비워 서비스가 실제로 조회하도록
+		entityManager.flush();
+		entityManager.clear();
+
+		given(authenticatedUserProvider.getUser(EMAIL)).willReturn(creator);
+	}
+
+	@Test
+	@DisplayName("초대 인원과 관계없이 고정된 쿼리 수로 참가자를 추가한다")
+	void shouldAddUsersWithinQueryBudget() throws Exception {
+		// when
+		List<MeetingUserResponseDto> result = new ArrayList<>();
+		QueryCount count = assertQueryBudget(ADD_USERS_QUERY_BUDGET,
+			() -> result.addAll(meetingUserService.addUsersToMeeting(meetingId, inviteeIds, EMAIL)));
+
+		// then - 0건이면 StatementInspector가 Hibernate에 등록되지 않은 것
+		assertThat(count.getTotal()).isEqualTo(ADD_USERS_QUERY_BUDGET);
+		assertThat(count.getMaxRepeat()).isEqualTo(1);
+		assertThat(result).hasSize(INVITEE_COUNT);
+	}
+
+	private static User user(String email) {
+		return User.builder()
+			.email(email)
+			.nickName(email.substring(0, email.indexOf('@')))
+			.role(UserRole.USER)
+			.build();
+	}
+}
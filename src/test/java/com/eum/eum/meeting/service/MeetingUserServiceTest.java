@@ -0,0 +1,135 @@
+package com.eum.eum.meeting.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eum.eum.auth.service.AuthenticatedUserProvider;
+import com.eum.eum.common.exception.BusinessException;
+import com.eum.eum.common.exception.ErrorCode;
+import com.eum.eum.common.util.CustomBeanUtils;
+import com.eum.eum.meeting.domain.entity.Meeting;
+import com.eum.eum.meeting.domain.entity.MeetingTestFactory;
+import com.eum.eum.meeting.domain.entity.MeetingUser;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+import com.eum.eum.meeting.domain.repository.MeetingRepository;
+import com.eum.eum.meeting.domain.repository.MeetingUserJdbcRepository;
+import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
+import com.eum.eum.meeting.dto.MeetingUserResponseDto;
+import com.eum.eum.user.domain.entity.User;
+import com.eum.eum.user.domain.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeetingUserService 단위 테스트")
+class MeetingUserServiceTest {
+
+	@Mock
+	private MeetingUserRepository meetingUserRepository;
+
+	@Mock
+	private MeetingUserJdbcRepository meetingUserJdbcRepository;
+
+	@Mock
+	private MeetingRepository meetingRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private AuthenticatedUserProvider authenticatedUserProvider;
+
+	@Mock
+	private CustomBeanUtils customBeanUtils;
+
+	@InjectMocks
+	private MeetingUserService meetingUserService;
+
+	private static final Long MEETING_ID = 100L;
+	private static final String EMAIL = "creator@test.com";
+
+	private User creator;
+	private Meeting meeting;
+
+	@BeforeEach
+	void setUp() {
+		creator = user(1L);
+		meeting = MeetingTestFactory.createMeeting(MEETING_ID, 37.5, 127.0);
+		meeting.addMeetingUser(MeetingTestFactory.createMeetingUserAsCreator(creator, meeting, MovementStatus.PENDING));
+
+		given(authenticatedUserProvider.getUser(EMAIL)).willReturn(creator);
+		given(meetingRepository.findByIdWithUsers(MEETING_ID)).willReturn(Optional.of(meeting));
+	}
+
+	@Nested
+	@DisplayName("addUsersToMeeting")
+	class AddUsersToMeeting {
+
+		@Test
+		@DisplayName("사용자 조회와 참여 여부 확인을 인원수와 무관하게 한 번씩만 한다")
+		void shouldResolveUsersInBulk() {
+			// given
+			User user2 = user(2L);
+			User user3 = user(3L);
+			List<MeetingUser> inserted = List.of(
+				MeetingTestFactory.createMeetingUser(user2, meeting, MovementStatus.PENDING),
+				MeetingTestFactory.createMeetingUser(user3, meeting, MovementStatus.PENDING));
+			given(userRepository.findAllById(Set.of(2L, 3L))).willReturn(List.of(user2, user3));
+			given(meetingUserRepository.findAllWithUserByMeetingIdAndUserIdIn(eq(MEETING_ID), anyCollection()))
+				.willReturn(inserted);
+
+			// when (중복 id는 한 번만 추가)
+			List<MeetingUserResponseDto> result =
+				meetingUserService.addUsersToMeeting(MEETING_ID, List.of(2L, 3L, 2L), EMAIL);
+
+			// then
+			assertThat(result).extracting(MeetingUserResponseDto::getUserId).containsExactly(2L, 3L);
+			assertThat(meeting.getUsers()).hasSize(3);
+			then(meetingUserJdbcRepository).should().batchInsertParticipants(eq(MEETING_ID), eq(Set.of(2L, 3L)));
+			then(userRepository).should(never()).findById(any());
+			then(meetingUserRepository).should(never()).existsByMeetingIdAndUserId(any(), any());
+		}
+
+		@Test
+		@DisplayName("이미 참여중인 사용자가 있으면 저장하지 않고 예외")
+		void shouldRejectExistingMember() {
+			assertThatThrownBy(() -> meetingUserService.addUsersToMeeting(MEETING_ID, List.of(2L, 1L), EMAIL))
+				.isInstanceOf(BusinessException.class);
+
+			then(meetingUserJdbcRepository).should(never()).batchInsertParticipants(any(), any());
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 사용자가 있으면 USER_NOT_FOUND")
+		void shouldRejectUnknownUser() {
+			given(userRepository.findAllById(Set.of(2L, 99L))).willReturn(List.of(user(2L)));
+
+			assertThatThrownBy(() -> meetingUserService.addUsersToMeeting(MEETING_ID, List.of(2L, 99L), EMAIL))
+				.isInstanceOf(BusinessException.class)
+				.extracting("code")
+				.isEqualTo(ErrorCode.USER_NOT_FOUND.getCode());
+
+			then(meetingUserJdbcRepository).should(never()).batchInsertParticipants(any(), any());
+		}
+	}
+
+	private static User user(Long id) {
+		return User.builder()
+			.id(id)
+			.email("user" + id + "@test.com")
+			.nickName("사용자" + id)
+			.build();
+	}
+}
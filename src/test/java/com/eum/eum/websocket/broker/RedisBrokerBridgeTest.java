@@ -0,0 +1,77 @@
+package com.eum.eum.websocket.broker;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisBrokerBridge 단위 테스트")
+class RedisBrokerBridgeTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	@Mock
+	private MessageChannel brokerChannel;
+
+	@Nested
+	@DisplayName("미팅 토픽 판별")
+	class MeetingTopic {
+
+		@Test
+		@DisplayName("미팅 브로드캐스트 토픽만 브리지 대상이다")
+		void shouldMatchOnlyMeetingBroadcastTopics() {
+			assertThat(RedisBrokerBridge.meetingIdOf("/sub/meeting/12/location")).isEqualTo(12L);
+			assertThat(RedisBrokerBridge.meetingIdOf("/sub/meeting/12/location/compact")).isEqualTo(12L);
+			assertThat(RedisBrokerBridge.meetingIdOf("/sub/meeting/12/location-user1a2b")).isNull();
+			assertThat(RedisBrokerBridge.meetingIdOf("/sub/kick")).isNull();
+		}
+	}
+
+	@Nested
+	@DisplayName("수신")
+	class Receive {
+
+		@Test
+		@DisplayName("다른 노드 메시지는 relay 헤더를 붙여 로컬 브로커로 전달한다")
+		void shouldForwardRemoteMessageToLocalBroker() {
+			// given
+			RedisBrokerBridge bridge = new RedisBrokerBridge(stringRedisTemplate, listenerContainer, brokerChannel);
+			byte[] payload = "{\"lat\":37.5}".getBytes(StandardCharsets.UTF_8);
+			byte[] frame = RedisBrokerBridge.encode("other-node", "/sub/meeting/1/location",
+				MimeTypeUtils.APPLICATION_JSON, payload);
+
+			// when
+			bridge.onMessage(new DefaultMessage("ws:broker:meeting:1".getBytes(), frame), null);
+
+			// then
+			ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+			then(brokerChannel).should().send(captor.capture());
+
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(captor.getValue());
+			assertThat(accessor.getDestination()).isEqualTo("/sub/meeting/1/location");
+			assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+			assertThat(accessor.getHeader(RedisBrokerBridge.RELAYED_HEADER)).isEqualTo(true);
+			assertThat((byte[])captor.getValue().getPayload()).isEqualTo(payload);
+		}
+	}
+}
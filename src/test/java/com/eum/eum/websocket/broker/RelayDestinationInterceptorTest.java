@@ -0,0 +1,83 @@
+package com.eum.eum.websocket.broker;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+@DisplayName("RelayDestinationInterceptor 단위 테스트")
+class RelayDestinationInterceptorTest {
+
+	private final RelayDestinationInterceptor interceptor = new RelayDestinationInterceptor();
+	private final MessageChannel channel = mock(MessageChannel.class);
+
+	@Test
+	@DisplayName("/sub 목적지는 RabbitMQ /topic 라우팅 키 형식으로 바뀐다")
+	void shouldMapToTopicDestination() {
+		assertThat(RelayDestinationInterceptor.toBrokerDestination("/sub/meeting/1/location"))
+			.isEqualTo("/topic/meeting.1.location");
+		assertThat(RelayDestinationInterceptor.toBrokerDestination("/sub/meeting/1/location/compact"))
+			.isEqualTo("/topic/meeting.1.location.compact");
+		assertThat(RelayDestinationInterceptor.toBrokerDestination("/sub/kick-userabc123"))
+			.isEqualTo("/topic/kick-userabc123");
+	}
+
+	@Test
+	@DisplayName("클라이언트 SUBSCRIBE는 STOMP destination 헤더까지 함께 바뀐다")
+	void shouldRewriteSubscribe() {
+		// given
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId("session-123");
+		accessor.setSubscriptionId("sub-0");
+		accessor.setDestination("/sub/meeting/1/location");
+		Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+		// when
+		Message<?> result = interceptor.preSend(message, channel);
+
+		// then - 릴레이는 StompHeaderAccessor.wrap으로 프레임을 만든다
+		StompHeaderAccessor relayed = StompHeaderAccessor.wrap(result);
+		assertThat(relayed.getDestination()).isEqualTo("/topic/meeting.1.location");
+		assertThat(relayed.getFirstNativeHeader(StompHeaderAccessor.STOMP_DESTINATION_HEADER))
+			.isEqualTo("/topic/meeting.1.location");
+		assertThat(relayed.getSubscriptionId()).isEqualTo("sub-0");
+	}
+
+	@Test
+	@DisplayName("서버 발행 메시지도 브로커 목적지로 바뀐다")
+	void shouldRewriteServerMessage() {
+		// given
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination("/sub/meeting/1/poke");
+		Message<?> message = MessageBuilder.createMessage("{}".getBytes(), accessor.getMessageHeaders());
+
+		// when
+		Message<?> result = interceptor.preSend(message, channel);
+
+		// then
+		assertThat(StompHeaderAccessor.wrap(result).getDestination()).isEqualTo("/topic/meeting.1.poke");
+	}
+
+	@Test
+	@DisplayName("/sub 로 시작하지 않는 목적지는 그대로 둔다")
+	void shouldKeepOtherDestinations() {
+		// given
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setDestination("/user/sub/kick");
+		Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+		// when
+		Message<?> result = interceptor.preSend(message, channel);
+
+		// then
+		assertThat(result).isSameAs(message);
+	}
+}
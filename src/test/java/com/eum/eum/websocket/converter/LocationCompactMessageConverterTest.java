@@ -0,0 +1,82 @@
+package com.eum.eum.websocket.converter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+import com.eum.eum.location.dto.LocationResponseDto;
+import com.eum.eum.meeting.domain.entity.MovementStatus;
+
+@DisplayName("LocationCompactMessageConverter 단위 테스트")
+class LocationCompactMessageConverterTest {
+
+	private final LocationCompactMessageConverter converter = new LocationCompactMessageConverter();
+
+	@Test
+	@DisplayName("고정 순서 배열로 직렬화하고 message가 없으면 생략한다")
+	void shouldEncodePositionalArray() {
+		LocationResponseDto dto = LocationResponseDto.builder()
+			.meetingUserId(7L)
+			.lat(37.497942)
+			.lng(127.027621)
+			.movedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+			.movementStatus(MovementStatus.MOVING)
+			.isArrived(false)
+			.build();
+
+		assertThat(LocationCompactMessageConverter.encode(dto))
+			.isEqualTo("[7,37.497942,127.027621,1704067200,1,0]");
+	}
+
+	@Test
+	@DisplayName("message는 JSON 문자열로 이스케이프되어 마지막에 붙는다")
+	void shouldAppendEscapedMessage() {
+		LocationResponseDto dto = LocationResponseDto.builder()
+			.meetingUserId(7L)
+			.lat(37.5)
+			.lng(127.0)
+			.movementStatus(MovementStatus.ARRIVED)
+			.isArrived(true)
+			.message("\"테스트\"님이 도착했습니다!")
+			.build();
+
+		assertThat(LocationCompactMessageConverter.encode(dto))
+			.isEqualTo("[7,37.5,127.0,0,2,1,\"\\\"테스트\\\"님이 도착했습니다!\"]");
+	}
+
+	@Test
+	@DisplayName("content-type이 일치할 때만 변환한다")
+	void shouldConvertOnlyWithMatchingContentType() {
+		LocationResponseDto dto = LocationResponseDto.builder().meetingUserId(1L).lat(1.0).lng(2.0).build();
+
+		Message<?> compact = converter.toMessage(dto,
+			new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, LocationCompactMessageConverter.MIME_TYPE)));
+		Message<?> plain = converter.toMessage(dto, new MessageHeaders(Map.of()));
+
+		assertThat(new String((byte[])compact.getPayload(), StandardCharsets.UTF_8)).isEqualTo("[1,1.0,2.0,0,-1,0]");
+		assertThat(plain).isNull();
+	}
+
+	@Test
+	@DisplayName("묶음 전송(List)은 배열의 배열로 직렬화한다")
+	void shouldEncodeListAsNestedArray() {
+		List<LocationResponseDto> batch = List.of(
+			LocationResponseDto.builder().meetingUserId(1L).lat(1.0).lng(2.0).build(),
+			LocationResponseDto.builder().meetingUserId(2L).lat(3.0).lng(4.0).build()
+		);
+
+		Message<?> message = converter.toMessage(batch,
+			new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, LocationCompactMessageConverter.MIME_TYPE)));
+
+		assertThat(new String((byte[])message.getPayload(), StandardCharsets.UTF_8))
+			.isEqualTo("[[1,1.0,2.0,0,-1,0],[2,3.0,4.0,0,-1,0]]");
+	}
+}
@@ -27,6 +27,8 @@ import com.eum.eum.meeting.domain.repository.MeetingUserRepository;
 import com.eum.eum.security.jwt.JwtTokenProvider;
 import com.eum.eum.user.domain.entity.User;
 import com.eum.eum.user.domain.entity.UserRole;
+import com.eum.eum.websocket.converter.CompactPayloadNegotiation;
+import com.eum.eum.websocket.session.LocationSubscriptionRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JwtStompInterceptor 단위 테스트")
@@ -41,6 +43,9 @@ class JwtStompInterceptorTest {
 	@Mock
 	private MeetingUserRepository meetingUserRepository;
 
+	@Mock
+	private LocationSubscriptionRegistry locationSubscriptionRegistry;
+
 	@Mock
 	private MessageChannel channel;
 
@@ -293,6 +298,52 @@ class JwtStompInterceptorTest {
 				.isEqualTo("ACCESS-001");
 		}
 
+		@Test
+		@DisplayName("압축 포맷을 협상한 세션은 위치 토픽 구독이 compact 토픽으로 바뀐다")
+		void shouldRewriteLocationSubscriptionWhenCompactNegotiated() {
+			// given
+			Authentication auth = mock(Authentication.class);
+			Message<?> message = createSubscribeMessage(auth, "/sub/meeting/1/location", MEETING_ID);
+			StompHeaderAccessor.wrap(message).getSessionAttributes()
+				.put(CompactPayloadNegotiation.SESSION_ATTRIBUTE, true);
+
+			// when
+			Message<?> result = interceptor.preSend(message, channel);
+
+			// then
+			assertThat(StompHeaderAccessor.wrap(result).getDestination())
+				.isEqualTo("/sub/meeting/1/location/compact");
+			then(locationSubscriptionRegistry).should().subscribe("session-123", "sub-0", MEETING_ID, true);
+		}
+
+		@Test
+		@DisplayName("위치 토픽 구독은 JSON 포맷으로 기록된다")
+		void shouldTrackJsonLocationSubscription() {
+			// given
+			Authentication auth = mock(Authentication.class);
+			Message<?> message = createSubscribeMessage(auth, "/sub/meeting/1/location", MEETING_ID);
+
+			// when
+			interceptor.preSend(message, channel);
+
+			// then
+			then(locationSubscriptionRegistry).should().subscribe("session-123", "sub-0", MEETING_ID, false);
+		}
+
+		@Test
+		@DisplayName("위치 토픽이 아닌 구독은 기록하지 않는다")
+		void shouldNotTrackOtherSubscription() {
+			// given
+			Authentication auth = mock(Authentication.class);
+			Message<?> message = createSubscribeMessage(auth, "/sub/meeting/1/poke", MEETING_ID);
+
+			// when
+			interceptor.preSend(message, channel);
+
+			// then
+			then(locationSubscriptionRegistry).shouldHaveNoInteractions();
+		}
+
 		@Test
 		@DisplayName("인증되지 않은 사용자는 구독할 수 없다")
 		void shouldThrowExceptionWhenNotAuthenticated() {
@@ -307,6 +358,27 @@ class JwtStompInterceptorTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("UNSUBSCRIBE 명령")
+	class Unsubscribe {
+
+		@Test
+		@DisplayName("구독 해제 시 위치 구독 기록에서 제거한다")
+		void shouldUntrackSubscription() {
+			// given
+			StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+			accessor.setSessionId("session-123");
+			accessor.setSubscriptionId("sub-0");
+			Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+			// when
+			interceptor.preSend(message, channel);
+
+			// then
+			then(locationSubscriptionRegistry).should().unsubscribe("session-123", "sub-0");
+		}
+	}
+
 	@Nested
 	@DisplayName("DISCONNECT 명령")
 	class Disconnect {
@@ -360,6 +432,7 @@ class JwtStompInterceptorTest {
 	private Message<?> createSubscribeMessage(Authentication auth, String destination, Long sessionMeetingId) {
 		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
 		accessor.setSessionId("session-123");
+		accessor.setSubscriptionId("sub-0");
 		accessor.setDestination(destination);
 		accessor.setUser(auth);
 
@@ -24,9 +24,11 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import com.eum.eum.location.service.LocationIngestFilter;
 import com.eum.eum.location.service.LocationSharingService;
 import com.eum.eum.user.domain.entity.User;
 import com.eum.eum.user.domain.entity.UserRole;
+import com.eum.eum.websocket.session.LocationSubscriptionRegistry;
 import com.eum.eum.websocket.session.WebSocketSessionRegistry;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +44,12 @@ class WebSocketEventListenerTest {
 	@Mock
 	private LocationSharingService locationSharingService;
 
+	@Mock
+	private LocationSubscriptionRegistry locationSubscriptionRegistry;
+
+	@Mock
+	private LocationIngestFilter locationIngestFilter;
+
 	@InjectMocks
 	private WebSocketEventListener eventListener;
 
@@ -137,9 +145,11 @@ class WebSocketEventListenerTest {
 			eventListener.handleDisconnect(event);
 
 			// then
-			then(sessionRegistry).should().unregister(USERNAME);
+			then(sessionRegistry).should().unregister(USERNAME, SESSION_ID);
 			then(locationSharingService).should().removeLocation(USER_ID, MEETING_ID);
 			then(locationSharingService).should().checkMovementStatus(USER_ID, MEETING_ID);
+			then(locationSubscriptionRegistry).should().removeSession(SESSION_ID);
+			then(locationIngestFilter).should().forget(SESSION_ID);
 		}
 
 		@Test
@@ -152,8 +162,9 @@ class WebSocketEventListenerTest {
 			eventListener.handleDisconnect(event);
 
 			// then
-			then(sessionRegistry).should(never()).unregister(anyString());
+			then(sessionRegistry).should(never()).unregister(anyString(), anyString());
 			then(locationSharingService).should(never()).removeLocation(anyLong(), anyLong());
+			then(locationSubscriptionRegistry).should().removeSession(SESSION_ID); // 인증 전 세션도 구독 정리
 		}
 
 		@Test
@@ -166,7 +177,7 @@ class WebSocketEventListenerTest {
 			eventListener.handleDisconnect(event);
 
 			// then
-			then(sessionRegistry).should().unregister(USERNAME);
+			then(sessionRegistry).should().unregister(USERNAME, SESSION_ID);
 			then(locationSharingService).should(never()).removeLocation(anyLong(), anyLong());
 			then(locationSharingService).should(never()).checkMovementStatus(anyLong(), anyLong());
 		}
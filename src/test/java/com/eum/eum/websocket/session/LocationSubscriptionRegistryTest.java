@@ -0,0 +1,99 @@
+package com.eum.eum.websocket.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocationSubscriptionRegistry 단위 테스트")
+class LocationSubscriptionRegistryTest {
+
+	private static final Long MEETING_ID = 1L;
+	private static final String SESSION_ID = "session-123";
+
+	private LocationSubscriptionRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new LocationSubscriptionRegistry("simple");
+	}
+
+	@Nested
+	@DisplayName("simple 모드")
+	class SimpleMode {
+
+		@Test
+		@DisplayName("구독이 없으면 두 포맷 모두 구독자가 없다")
+		void shouldHaveNoSubscribersInitially() {
+			assertThat(registry.hasJsonSubscribers(MEETING_ID)).isFalse();
+			assertThat(registry.hasCompactSubscribers(MEETING_ID)).isFalse();
+		}
+
+		@Test
+		@DisplayName("포맷별로 구독을 구분한다")
+		void shouldTrackPerFormat() {
+			// when
+			registry.subscribe(SESSION_ID, "sub-0", MEETING_ID, true);
+
+			// then
+			assertThat(registry.hasCompactSubscribers(MEETING_ID)).isTrue();
+			assertThat(registry.hasJsonSubscribers(MEETING_ID)).isFalse();
+			assertThat(registry.hasCompactSubscribers(2L)).isFalse();
+		}
+
+		@Test
+		@DisplayName("마지막 구독이 해제되면 구독자가 없다")
+		void shouldRemoveOnLastUnsubscribe() {
+			// given
+			registry.subscribe(SESSION_ID, "sub-0", MEETING_ID, false);
+			registry.subscribe("session-456", "sub-0", MEETING_ID, false);
+
+			// when & then
+			registry.unsubscribe(SESSION_ID, "sub-0");
+			assertThat(registry.hasJsonSubscribers(MEETING_ID)).isTrue();
+
+			registry.unsubscribe("session-456", "sub-0");
+			assertThat(registry.hasJsonSubscribers(MEETING_ID)).isFalse();
+		}
+
+		@Test
+		@DisplayName("연결 종료 시 세션의 구독이 모두 해제된다")
+		void shouldRemoveAllOnSessionRemoval() {
+			// given
+			registry.subscribe(SESSION_ID, "sub-0", MEETING_ID, false);
+			registry.subscribe(SESSION_ID, "sub-1", MEETING_ID, true);
+
+			// when
+			registry.removeSession(SESSION_ID);
+
+			// then
+			assertThat(registry.hasJsonSubscribers(MEETING_ID)).isFalse();
+			assertThat(registry.hasCompactSubscribers(MEETING_ID)).isFalse();
+		}
+
+		@Test
+		@DisplayName("모르는 구독 해제는 무시한다")
+		void shouldIgnoreUnknownUnsubscribe() {
+			// given
+			registry.subscribe(SESSION_ID, "sub-0", MEETING_ID, false);
+
+			// when
+			registry.unsubscribe(SESSION_ID, "sub-9");
+			registry.unsubscribe("unknown", "sub-0");
+
+			// then
+			assertThat(registry.hasJsonSubscribers(MEETING_ID)).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("redis/relay 모드는 다른 노드 구독자를 알 수 없으므로 항상 두 포맷 모두 전송한다")
+	void shouldAlwaysSendBothInDistributedMode() {
+		LocationSubscriptionRegistry distributed = new LocationSubscriptionRegistry("relay");
+
+		assertThat(distributed.hasJsonSubscribers(MEETING_ID)).isTrue();
+		assertThat(distributed.hasCompactSubscribers(MEETING_ID)).isTrue();
+	}
+}
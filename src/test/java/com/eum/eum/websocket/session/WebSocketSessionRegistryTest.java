@@ -175,7 +175,7 @@ class WebSocketSessionRegistryTest {
 			given(hashOperations.entries(REDIS_KEY)).willReturn(entries);
 
 			// when
-			sessionRegistry.unregister(USERNAME);
+			sessionRegistry.unregister(USERNAME, SESSION_ID);
 
 			// then
 			then(redisTemplate).should().delete(REDIS_KEY);
@@ -188,9 +188,29 @@ class WebSocketSessionRegistryTest {
 			given(hashOperations.entries(REDIS_KEY)).willReturn(new HashMap<>());
 
 			// when & then
-			assertThatCode(() -> sessionRegistry.unregister(USERNAME))
+			assertThatCode(() -> sessionRegistry.unregister(USERNAME, SESSION_ID))
 				.doesNotThrowAnyException();
 			then(redisTemplate).should().delete(REDIS_KEY);
 		}
 	}
+
+	@Nested
+	@DisplayName("localSessionCount 메서드")
+	class LocalSessionCount {
+
+		@Test
+		@DisplayName("재접속 후 이전 세션이 끊겨도 새 세션은 집계된다")
+		void shouldCountBySessionId() {
+			// given
+			given(hashOperations.entries(REDIS_KEY)).willReturn(new HashMap<>());
+			sessionRegistry.register(USERNAME, "old-session", MEETING_ID);
+			sessionRegistry.register(USERNAME, SESSION_ID, MEETING_ID);
+
+			// when
+			sessionRegistry.unregister(USERNAME, "old-session");
+
+			// then
+			assertThat(sessionRegistry.localSessionCount()).isEqualTo(1);
+		}
+	}
 }